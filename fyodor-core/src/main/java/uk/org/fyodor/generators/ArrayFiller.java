@@ -0,0 +1,19 @@
+package uk.org.fyodor.generators;
+
+import java.util.function.Consumer;
+
+final class ArrayFiller<T> implements Consumer<T> {
+
+    private final Object[] array;
+    private int index;
+
+    ArrayFiller(final Object[] array, final int fromIndex) {
+        this.array = array;
+        this.index = fromIndex;
+    }
+
+    @Override
+    public void accept(final T t) {
+        array[index++] = t;
+    }
+}
@@ -4,30 +4,84 @@ import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
-import static java.math.BigDecimal.valueOf;
+import static java.lang.String.format;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.FLOOR;
+import static uk.org.fyodor.generators.Validations.ensure;
 
+/*
+Values are sampled as unscaled integers between lower * 10^scale and upper * 10^scale (rounded inwards),
+so every value with the requested scale in the range is equally likely and no precision is lost to doubles.
+ */
 final class BigDecimalGenerator implements Generator<BigDecimal> {
 
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
     private final RandomValues randomValues;
     private final Range<BigDecimal> range;
     private final int scale;
+    private final BigInteger lowerUnscaled;
+    private final BigInteger unscaledSpan;
+    private final boolean unscaledFitsInLong;
+    private final long lowerUnscaledLong;
+    private final long upperUnscaledLong;
 
     BigDecimalGenerator(final RandomValues randomValues, final Range<BigDecimal> range, final int scale) {
         this.range = range;
         this.scale = scale;
         this.randomValues = randomValues;
+
+        final BigInteger lowerUnscaled = range.lowerBound().setScale(scale, CEILING).unscaledValue();
+        final BigInteger upperUnscaled = range.upperBound().setScale(scale, FLOOR).unscaledValue();
+        ensure(isFixed() || lowerUnscaled.compareTo(upperUnscaled) <= 0,
+                format("range %s..%s does not contain any values with a scale of %s", range.lowerBound(), range.upperBound(), scale));
+
+        this.lowerUnscaled = lowerUnscaled;
+        this.unscaledSpan = upperUnscaled.subtract(lowerUnscaled);
+        this.unscaledFitsInLong = fitsInLong(lowerUnscaled) && fitsInLong(upperUnscaled);
+        this.lowerUnscaledLong = lowerUnscaled.longValue();
+        this.upperUnscaledLong = upperUnscaled.longValue();
     }
 
     @Override
     public BigDecimal next() {
-        if (range.lowerBound().compareTo(range.upperBound()) == 0) {
+        if (isFixed()) {
             return range.lowerBound();
         }
 
-        final double lowerBound = range.lowerBound().doubleValue();
-        final double upperBound = range.upperBound().doubleValue();
+        if (unscaledFitsInLong) {
+            return BigDecimal.valueOf(randomValues.randomLong(lowerUnscaledLong, upperUnscaledLong), scale);
+        }
+
+        return new BigDecimal(lowerUnscaled.add(randomUnscaledOffset()), scale);
+    }
+
+    private BigInteger randomUnscaledOffset() {
+        if (unscaledSpan.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+
+        final int bitLength = unscaledSpan.bitLength();
+        final int byteLength = (bitLength + 7) / 8;
+        final int mostSignificantByteMask = (1 << (bitLength - 8 * (byteLength - 1))) - 1;
+
+        BigInteger offset;
+        do {
+            final byte[] bytes = randomValues.randomBytes(byteLength);
+            bytes[0] &= mostSignificantByteMask;
+            offset = new BigInteger(1, bytes);
+        } while (offset.compareTo(unscaledSpan) > 0);
+        return offset;
+    }
+
+    private boolean isFixed() {
+        return range.lowerBound().compareTo(range.upperBound()) == 0;
+    }
 
-        return valueOf(randomValues.randomDouble(lowerBound, upperBound, scale));
+    private static boolean fitsInLong(final BigInteger value) {
+        return value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0;
     }
 }
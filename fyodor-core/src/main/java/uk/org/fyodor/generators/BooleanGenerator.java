@@ -1,17 +1,14 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.random.RandomValues;
+/**
+ * A {@link Generator} of {@code boolean} values which can be consumed without boxing through {@link #nextBoolean()}.
+ */
+public interface BooleanGenerator extends Generator<Boolean> {
 
-final class BooleanGenerator implements Generator<Boolean> {
-
-    private final RandomValues randomValues;
-
-    BooleanGenerator(final RandomValues randomValues) {
-        this.randomValues = randomValues;
-    }
+    boolean nextBoolean();
 
     @Override
-    public Boolean next() {
-        return randomValues.randomBoolean();
+    default Boolean next() {
+        return nextBoolean();
     }
 }
@@ -0,0 +1,104 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/*
+Builds strings of uniformly chosen characters from bulk 64-bit random words. Each word is cut into as many indexes of
+the smallest sufficient bit width as it holds, and indexes beyond the end of the character set are skipped, so at least
+half the indexes are used and every character stays exactly equally likely. Character sets that fit in Latin-1 are
+written to a byte[] which JDK 9+ copies straight into a compact String.
+ */
+final class CharacterSampler {
+
+    private final char[] charSet;
+    private final byte[] latin1CharSet;
+    private final int bitsPerIndex;
+    private final long indexMask;
+    private final int indexesPerWord;
+    private final double wordsPerCharacter;
+
+    CharacterSampler(final char[] charSet) {
+        this.charSet = charSet;
+        this.latin1CharSet = latin1(charSet);
+        this.bitsPerIndex = 32 - Integer.numberOfLeadingZeros(charSet.length - 1);
+        this.indexMask = (1L << bitsPerIndex) - 1;
+        this.indexesPerWord = bitsPerIndex == 0 ? Integer.MAX_VALUE : 64 / bitsPerIndex;
+        this.wordsPerCharacter = bitsPerIndex == 0 ? 0 : (double) (1L << bitsPerIndex) / (charSet.length * (double) indexesPerWord);
+    }
+
+    String randomString(final RandomValues randomValues, final int length) {
+        if (length == 0) {
+            return "";
+        }
+
+        if (latin1CharSet != null) {
+            final byte[] bytes = new byte[length];
+            drawIndexes(randomValues, length, (position, index) -> bytes[position] = latin1CharSet[index]);
+            return new String(bytes, ISO_8859_1);
+        }
+
+        final char[] chars = new char[length];
+        fill(randomValues, chars);
+        return new String(chars);
+    }
+
+    void fill(final RandomValues randomValues, final char[] chars) {
+        drawIndexes(randomValues, chars.length, (position, index) -> chars[position] = charSet[index]);
+    }
+
+    void appendTo(final RandomValues randomValues, final int length, final StringBuilder builder) {
+        builder.ensureCapacity(builder.length() + length);
+        drawIndexes(randomValues, length, (position, index) -> builder.append(charSet[index]));
+    }
+
+    /*
+    Cuts indexes from bulk random words and passes each one that falls within the character set to the store along with
+    the position it fills, so the rejection of out of range indexes lives in one place whatever the destination. A
+    single character set needs no random bits at all.
+     */
+    private void drawIndexes(final RandomValues randomValues, final int length, final IndexStore store) {
+        if (bitsPerIndex == 0) {
+            for (int i = 0; i < length; i++) {
+                store.store(i, 0);
+            }
+            return;
+        }
+
+        final long[] words = words(length);
+        int w = words.length;
+        for (int i = 0; i < length; ) {
+            if (w == words.length) {
+                randomValues.fillLongs(words, Long.MIN_VALUE, Long.MAX_VALUE);
+                w = 0;
+            }
+            long word = words[w++];
+            for (int j = 0; j < indexesPerWord && i < length; j++, word >>>= bitsPerIndex) {
+                final int index = (int) (word & indexMask);
+                if (index < charSet.length) {
+                    store.store(i++, index);
+                }
+            }
+        }
+    }
+
+    private long[] words(final int length) {
+        return new long[(int) Math.min(1024, (long) (length * wordsPerCharacter) + 1)];
+    }
+
+    private static byte[] latin1(final char[] charSet) {
+        final byte[] bytes = new byte[charSet.length];
+        for (int i = 0; i < charSet.length; i++) {
+            if (charSet[i] > 0xFF) {
+                return null;
+            }
+            bytes[i] = (byte) charSet[i];
+        }
+        return bytes;
+    }
+
+    private interface IndexStore {
+        void store(int position, int index);
+    }
+}
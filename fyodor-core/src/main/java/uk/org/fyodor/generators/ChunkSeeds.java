@@ -0,0 +1,41 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.CounterBasedRandom;
+import uk.org.fyodor.random.RandomBackend;
+
+import java.util.function.Supplier;
+
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
+
+/*
+Values are generated under seeds derived by position from a single draw of the calling thread's random source, so the
+output only depends on that seed and never on how many threads take part, which position runs where, or when it runs.
+Primitive values are cheap enough to generate a fixed-size chunk per seed; other values get a seed each, so that taking
+one value never generates a chunk of them. Only generators that resolve their randomness per thread (as all generators
+created by RDG do) are supported.
+ */
+final class ChunkSeeds {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final CounterBasedRandom seeds;
+    private final RandomBackend backend;
+
+    ChunkSeeds() {
+        this.seeds = new CounterBasedRandom(threadLocalSourceOfRandomness().randomLong(Long.MIN_VALUE, Long.MAX_VALUE));
+        this.backend = seed().backend();
+    }
+
+    void generate(final long chunk, final Runnable generation) {
+        seed().runIsolated(seeds.longAt(chunk), backend, generation);
+    }
+
+    <T> T generateAt(final long index, final Supplier<? extends T> supplier) {
+        return seed().supplyIsolated(seeds.longAt(index), backend, supplier);
+    }
+
+    static long numberOfChunks(final long size) {
+        return (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+}
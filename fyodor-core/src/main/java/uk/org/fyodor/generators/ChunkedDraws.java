@@ -0,0 +1,34 @@
+package uk.org.fyodor.generators;
+
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/*
+Generators whose values have a bulk fill on RandomValues produce a count of values by filling a primitive chunk at a
+time and draining it into the consumer, so a run of values costs one fill call per chunk rather than a call per value.
+The chunk is allocated once, and only reallocated at the exact size of a final partial chunk so that no value is drawn
+and then discarded.
+ */
+final class ChunkedDraws {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private ChunkedDraws() {
+    }
+
+    static <A> void draw(final int count,
+                         final IntFunction<A> newChunk,
+                         final Consumer<? super A> fill,
+                         final Consumer<? super A> drain) {
+        int length = Math.min(count, CHUNK_SIZE);
+        A chunk = newChunk.apply(length);
+        for (int remaining = count; remaining > 0; remaining -= length) {
+            if (remaining < length) {
+                length = remaining;
+                chunk = newChunk.apply(length);
+            }
+            fill.accept(chunk);
+            drain.accept(chunk);
+        }
+    }
+}
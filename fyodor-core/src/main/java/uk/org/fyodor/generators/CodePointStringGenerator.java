@@ -0,0 +1,38 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.generators.characters.CodePointSet;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+/*
+The length is measured in code points, so strings drawn from supplementary planes are longer in chars. Indexes for a
+whole string are drawn in bulk and each is resolved to a code point by a binary search over the set's intervals.
+ */
+final class CodePointStringGenerator implements Generator<String> {
+
+    private final RandomValues randomValues;
+    private final IntGenerator lengthGenerator;
+    private final CodePointSet codePoints;
+    private final boolean bmp;
+
+    CodePointStringGenerator(final RandomValues randomValues, final Range<Integer> lengthRange, final CodePointSet codePoints) {
+        this.randomValues = randomValues;
+        this.lengthGenerator = RDG.integer(lengthRange);
+        this.codePoints = codePoints;
+        this.bmp = codePoints.isBmp();
+    }
+
+    @Override
+    public String next() {
+        final int length = lengthGenerator.nextInt();
+        final int[] indexes = new int[length];
+        randomValues.fillIntegers(indexes, 0, codePoints.size() - 1);
+
+        final char[] chars = new char[bmp ? length : 2 * length];
+        int charCount = 0;
+        for (final int index : indexes) {
+            charCount += Character.toChars(codePoints.codePointAt(index), chars, charCount);
+        }
+        return new String(chars, 0, charCount);
+    }
+}
@@ -1,26 +1,45 @@
 package uk.org.fyodor.generators;
 
+import uk.org.fyodor.generators.characters.CharacterClass;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import uk.org.fyodor.generators.characters.CharacterSetRange;
+import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
-public class DomainGenerator implements Generator<String> {
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
 
-    private final Generator<String> domainGenerator;
+/*
+Labels cannot start or end with a hyphen, so the first and last characters are drawn from the set without one and the
+rest from the full set, which gives the same strings as rejecting invalid labels without ever retrying.
+ */
+public class DomainGenerator implements TextGenerator {
+
+    private static final CharacterClass domainCharacters = CharacterClass.of(CharacterSetFilter.DomainName.getFilter(), CharacterSetRange.defaultLatinBasic);
+    private static final CharacterSampler middleSampler = new CharacterSampler(domainCharacters.toCharArray());
+    private static final CharacterSampler edgeSampler = new CharacterSampler(domainCharacters.difference(CharacterClass.of("-")).toCharArray());
+
+    private final RandomValues randomValues = threadLocalSourceOfRandomness();
+    private final IntGenerator lengthGenerator;
 
     public DomainGenerator(){
         this(Range.closed(5, 40));
     }
 
     public DomainGenerator(Range<Integer> range) {
-        domainGenerator = RDG.string(range, CharacterSetFilter.DomainName);
+        lengthGenerator = RDG.integer(range);
     }
 
     @Override
-    public String next() {
-        String domain = domainGenerator.next();
-        if (domain.startsWith("-") || domain.endsWith("-")) {
-            return next();
+    public void appendTo(final StringBuilder builder) {
+        final int length = lengthGenerator.nextInt();
+        if (length == 0) {
+            return;
+        }
+
+        edgeSampler.appendTo(randomValues, 1, builder);
+        if (length > 1) {
+            middleSampler.appendTo(randomValues, length - 2, builder);
+            edgeSampler.appendTo(randomValues, 1, builder);
         }
-        return domain;
     }
 }
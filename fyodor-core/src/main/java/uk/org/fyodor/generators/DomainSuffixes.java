@@ -0,0 +1,208 @@
+package uk.org.fyodor.generators;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+/**
+ * An immutable view over the shared table of public domain name suffixes, which is loaded from the classpath the first
+ * time it is used. Views can be narrowed by registry, by kind of top level domain and by top level domain without
+ * copying the table.
+ */
+public final class DomainSuffixes {
+
+    private static final String RESOURCE = "domain-suffixes.txt";
+    private static final String BEGIN_PRIVATE_DOMAINS = "// ===BEGIN PRIVATE DOMAINS===";
+
+    private static final int ICANN = 0;
+    private static final int PRIVATE = 1;
+    private static final int GENERIC = 0;
+    private static final int COUNTRY_CODE = 1;
+
+    /*
+    The table is sorted by registry, then kind of top level domain, then top level domain, so every filter selects a
+    handful of contiguous runs. A view is just the sorted, disjoint [start, end) runs it covers.
+     */
+    private final int[] runs;
+    private final int size;
+
+    private DomainSuffixes(final int[] runs) {
+        this.runs = runs;
+        int size = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            size += runs[i + 1] - runs[i];
+        }
+        this.size = size;
+    }
+
+    public static DomainSuffixes all() {
+        return Table.ALL;
+    }
+
+    public DomainSuffixes icann() {
+        return matching(e -> e.registry == ICANN);
+    }
+
+    public DomainSuffixes privatelyRegistered() {
+        return matching(e -> e.registry == PRIVATE);
+    }
+
+    public DomainSuffixes generic() {
+        return matching(e -> e.kind == GENERIC);
+    }
+
+    public DomainSuffixes countryCode() {
+        return matching(e -> e.kind == COUNTRY_CODE);
+    }
+
+    public DomainSuffixes topLevelDomain(final String topLevelDomain) {
+        ensure(isNotNull(topLevelDomain), "top level domain cannot be null");
+
+        final String tld = topLevelDomain.toLowerCase(Locale.ROOT);
+        return matching(e -> e.topLevelDomain.equals(tld));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(format("index %s is out of bounds for %s suffixes", index, size));
+        }
+
+        int remaining = index;
+        for (int i = 0; i < runs.length; i += 2) {
+            final int length = runs[i + 1] - runs[i];
+            if (remaining < length) {
+                return Table.ENTRIES[runs[i] + remaining].suffix;
+            }
+            remaining -= length;
+        }
+        throw new IllegalStateException(format("index %s was not found in any run", index));
+    }
+
+    public String[] toArray() {
+        final String[] suffixes = new String[size];
+        int i = 0;
+        for (int r = 0; r < runs.length; r += 2) {
+            for (int e = runs[r]; e < runs[r + 1]; e++) {
+                suffixes[i++] = Table.ENTRIES[e].suffix;
+            }
+        }
+        return suffixes;
+    }
+
+    @Override
+    public String toString() {
+        return "DomainSuffixes{size=" + size + "}";
+    }
+
+    private DomainSuffixes matching(final EntryFilter filter) {
+        final List<Integer> matchingRuns = new ArrayList<>();
+        final Entry[] entries = Table.ENTRIES;
+        for (int r = 0; r < runs.length; r += 2) {
+            int start = -1;
+            for (int i = runs[r]; i < runs[r + 1]; i++) {
+                final boolean matches = filter.matches(entries[i]);
+                if (matches && start < 0) {
+                    start = i;
+                } else if (!matches && start >= 0) {
+                    matchingRuns.add(start);
+                    matchingRuns.add(i);
+                    start = -1;
+                }
+            }
+            if (start >= 0) {
+                matchingRuns.add(start);
+                matchingRuns.add(runs[r + 1]);
+            }
+        }
+        return new DomainSuffixes(matchingRuns.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private interface EntryFilter {
+        boolean matches(Entry entry);
+    }
+
+    private static final class Entry {
+        private final String suffix;
+        private final String topLevelDomain;
+        private final int registry;
+        private final int kind;
+
+        private Entry(final String suffix, final String topLevelDomain, final int registry) {
+            this.suffix = suffix;
+            this.topLevelDomain = topLevelDomain;
+            this.registry = registry;
+            this.kind = topLevelDomain.length() == 2 && isAsciiLetters(topLevelDomain) ? COUNTRY_CODE : GENERIC;
+        }
+
+        private static boolean isAsciiLetters(final String s) {
+            for (int i = 0; i < s.length(); i++) {
+                final char c = s.charAt(i);
+                if (c < 'a' || c > 'z') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Table {
+        private static final Entry[] ENTRIES = load();
+        private static final DomainSuffixes ALL = new DomainSuffixes(new int[]{0, ENTRIES.length});
+
+        private static Entry[] load() {
+            final InputStream resource = DomainSuffixes.class.getResourceAsStream(RESOURCE);
+            if (resource == null) {
+                throw new IllegalStateException("unable to find domain suffix resource " + RESOURCE);
+            }
+
+            final Set<String> seen = new HashSet<>();
+            final Map<String, String> topLevelDomains = new HashMap<>();
+            final List<Entry> entries = new ArrayList<>();
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(resource, UTF_8))) {
+                int registry = ICANN;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.startsWith(BEGIN_PRIVATE_DOMAINS)) {
+                        registry = PRIVATE;
+                    } else if (!line.isEmpty() && !line.startsWith("//") && !line.startsWith("!") && seen.add(line)) {
+                        final String tld = line.substring(line.lastIndexOf('.') + 1);
+                        entries.add(new Entry(line, topLevelDomains.computeIfAbsent(tld, t -> t), registry));
+                    }
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException("unable to read domain suffix resource " + RESOURCE, e);
+            }
+
+            final Entry[] table = entries.toArray(new Entry[0]);
+            Arrays.sort(table, Comparator.<Entry>comparingInt(e -> e.registry)
+                    .thenComparingInt(e -> e.kind)
+                    .thenComparing(e -> e.topLevelDomain));
+            return table;
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.random.RandomValues;
-import uk.org.fyodor.range.Range;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
-final class DoubleGenerator implements Generator<Double> {
+import static uk.org.fyodor.generators.Validations.ensure;
 
-    private final RandomValues randomValues;
-    private final Range<Double> range;
+/**
+ * A {@link Generator} of {@code double} values which can be consumed without boxing through {@link #nextDouble()}.
+ */
+public interface DoubleGenerator extends Generator<Double> {
 
-    DoubleGenerator(final RandomValues randomValues, final Range<Double> range) {
-        this.randomValues = randomValues;
-        this.range = range;
-    }
+    double nextDouble();
 
     @Override
-    public Double next() {
-        return randomValues.randomDouble(range.lowerBound(), range.upperBound());
+    default Double next() {
+        return nextDouble();
+    }
+
+    default DoubleStream doubleStream() {
+        return doubleStream(Long.MAX_VALUE);
+    }
+
+    default DoubleStream doubleStream(final long size) {
+        ensure(size >= 0, "size cannot be negative");
+
+        return StreamSupport.doubleStream(new GeneratorSpliterator.OfDoubles(this, size), false);
     }
 }
@@ -0,0 +1,31 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.function.Consumer;
+
+final class DoubleRangeGenerator implements DoubleGenerator {
+
+    private final RandomValues randomValues;
+    private final Range<Double> range;
+
+    DoubleRangeGenerator(final RandomValues randomValues, final Range<Double> range) {
+        this.randomValues = randomValues;
+        this.range = range;
+    }
+
+    @Override
+    public double nextDouble() {
+        return randomValues.randomDouble(range.lowerBound(), range.upperBound());
+    }
+
+    @Override
+    public void next(final int count, final Consumer<? super Double> consumer) {
+        ChunkedDraws.draw(count, double[]::new, chunk -> randomValues.fillDoubles(chunk, range.lowerBound(), range.upperBound()), chunk -> {
+            for (final double value : chunk) {
+                consumer.accept(value);
+            }
+        });
+    }
+}
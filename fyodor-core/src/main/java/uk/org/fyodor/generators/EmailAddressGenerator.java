@@ -2,24 +2,28 @@ package uk.org.fyodor.generators;
 
 import uk.org.fyodor.range.Range;
 
-import static java.lang.String.format;
-
 /*
 see http://en.wikipedia.org/wiki/Email_address for further info about what is and isn't
 allowed in an email address.
  */
-public class EmailAddressGenerator implements Generator<String> {
+public class EmailAddressGenerator implements TextGenerator {
 
-    private final Generator<String> localPartGenerator;
-    private final Generator<String> domainPartGenerator;
+    private final TextGenerator localPartGenerator;
+    private final TextGenerator domainPartGenerator;
+    private final TextGenerator suffixGenerator;
 
     public EmailAddressGenerator() {
         localPartGenerator = new EmailLocalPartGenerator(Range.closed(3, 50));
         domainPartGenerator = RDG.domain();
+        suffixGenerator = RDG.domainSuffix();
     }
 
     @Override
-    public String next() {
-        return format("%s@%s.%s", localPartGenerator.next(), domainPartGenerator.next(), RDG.domainSuffix().next());
+    public void appendTo(final StringBuilder builder) {
+        localPartGenerator.appendTo(builder);
+        builder.append('@');
+        domainPartGenerator.appendTo(builder);
+        builder.append('.');
+        suffixGenerator.appendTo(builder);
     }
 }
@@ -1,26 +1,69 @@
 package uk.org.fyodor.generators;
 
+import uk.org.fyodor.generators.characters.CharacterClass;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import uk.org.fyodor.generators.characters.CharacterSetRange;
+import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
-public class EmailLocalPartGenerator implements Generator<String> {
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
 
-    private final Generator<String> generator;
+/*
+A local part cannot start or end with a dot or contain two dots in a row. Characters are chosen left to right, and a
+dot is only possible after another character, with the probability that valid completions of the remaining length
+begin with one. This picks uniformly among the valid strings of each length with a single draw per character.
+With n other characters and C and D counting completions of length r after a non-dot and after a dot,
+C(r) = n * C(r-1) + D(r-1) and D(r) = n * C(r-1), so q(r) = D(r)/C(r) = n / (n + q(r-1)) and a dot is picked with weight
+q(r) against weight n for the others. q converges within a few dozen steps, so longer strings reuse the last value.
+ */
+public class EmailLocalPartGenerator implements TextGenerator {
+
+    private static final int MAX_DOT_WEIGHTS = 64;
+    private static final char[] nonDotCharacters = CharacterClass.of(CharacterSetFilter.EmailLocalPart.getFilter(), CharacterSetRange.defaultLatinBasic)
+            .difference(CharacterClass.of("."))
+            .toCharArray();
+    private static final double[] dotWeights = dotWeights(nonDotCharacters.length);
+
+    private final RandomValues randomValues = threadLocalSourceOfRandomness();
+    private final IntGenerator lengthGenerator;
 
     public EmailLocalPartGenerator(int length) {
-        generator = RDG.string(length, CharacterSetFilter.EmailLocalPart);
+        this(Range.fixed(length));
     }
 
     public EmailLocalPartGenerator(Range<Integer> range) {
-        generator = RDG.string(range, CharacterSetFilter.EmailLocalPart);
+        lengthGenerator = RDG.integer(range);
     }
 
     @Override
-    public String next() {
-        String localPart = generator.next();
-        if (localPart.contains("..") || localPart.startsWith(".") || localPart.endsWith(".")) {
-            return next();
+    public void appendTo(final StringBuilder builder) {
+        final int length = lengthGenerator.nextInt();
+        final int others = nonDotCharacters.length;
+
+        boolean previousWasDot = true;
+        for (int i = 0; i < length; i++) {
+            if (previousWasDot) {
+                builder.append(nonDotCharacters[randomValues.randomInteger(0, others - 1)]);
+                previousWasDot = false;
+                continue;
+            }
+
+            final double dotWeight = dotWeights[Math.min(length - 1 - i, MAX_DOT_WEIGHTS - 1)];
+            final double choice = randomValues.randomDouble(0.0, others + dotWeight);
+            if (choice < dotWeight) {
+                builder.append('.');
+                previousWasDot = true;
+            } else {
+                builder.append(nonDotCharacters[Math.min(others - 1, (int) (choice - dotWeight))]);
+            }
+        }
+    }
+
+    private static double[] dotWeights(final int others) {
+        final double[] weights = new double[MAX_DOT_WEIGHTS];
+        for (int remaining = 1; remaining < weights.length; remaining++) {
+            weights[remaining] = others / (others + weights[remaining - 1]);
         }
-        return localPart;
+        return weights;
     }
 }
@@ -0,0 +1,15 @@
+package uk.org.fyodor.generators;
+
+/**
+ * A {@link Generator} whose values are drawn uniformly from a finite domain of distinct values that can be addressed
+ * by index, which lets collections of distinct values be sampled directly rather than by discarding duplicates.
+ * <p>
+ * {@link #domainSize()} is {@link Long#MAX_VALUE} when the domain has at least that many values, or when its values are
+ * not all equally likely, in which case it is not addressed by index.
+ */
+public interface EnumerableGenerator<T> extends Generator<T> {
+
+    long domainSize();
+
+    T valueAt(long index);
+}
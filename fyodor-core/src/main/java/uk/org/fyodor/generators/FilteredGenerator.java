@@ -0,0 +1,43 @@
+package uk.org.fyodor.generators;
+
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+Consecutive filters are combined into a single predicate with the most recent attempt budget, rather than each retrying
+the filter before it.
+ */
+final class FilteredGenerator<T> implements Generator<T> {
+
+    private final Generator<? extends T> generatorOfT;
+    private final Predicate<? super T> predicate;
+    private final int maxAttempts;
+
+    FilteredGenerator(final Generator<? extends T> generatorOfT, final Predicate<? super T> predicate, final int maxAttempts) {
+        this.generatorOfT = generatorOfT;
+        this.predicate = predicate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public T next() {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            final T t = generatorOfT.next();
+            if (predicate.test(t)) {
+                return t;
+            }
+        }
+        throw new IllegalStateException(format("unable to generate a value matching the filter within %s attempts", maxAttempts));
+    }
+
+    @Override
+    public Generator<T> filter(final Predicate<? super T> nextPredicate, final int maxAttempts) {
+        ensure(nextPredicate != null, "predicate cannot be null");
+        ensure(maxAttempts > 0, "maximum number of attempts must be positive");
+
+        final Predicate<? super T> predicate = this.predicate;
+        return new FilteredGenerator<T>(generatorOfT, t -> predicate.test(t) && nextPredicate.test(t), maxAttempts);
+    }
+}
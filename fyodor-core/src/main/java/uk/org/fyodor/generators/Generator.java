@@ -1,6 +1,78 @@
 package uk.org.fyodor.generators;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
 public interface Generator<T> {
 
     T next();
+
+    default void next(final int count, final Consumer<? super T> consumerOfT) {
+        for (int i = 0; i < count; i++) {
+            consumerOfT.accept(next());
+        }
+    }
+
+    default void fill(final T[] arrayOfT) {
+        next(arrayOfT.length, new ArrayFiller<>(arrayOfT, 0));
+    }
+
+    default List<T> toList(final int size) {
+        final List<T> listOfT = new ArrayList<>(size);
+        next(size, listOfT::add);
+        return listOfT;
+    }
+
+    default Stream<T> stream() {
+        return stream(Long.MAX_VALUE);
+    }
+
+    default Stream<T> stream(final long size) {
+        ensure(size >= 0, "size cannot be negative");
+
+        return StreamSupport.stream(new GeneratorSpliterator.OfValues<T>(this, size), false);
+    }
+
+    default <R> Generator<R> map(final Function<? super T, ? extends R> mapper) {
+        ensure(mapper != null, "mapper cannot be null");
+
+        return new MappedGenerator<>(this, mapper);
+    }
+
+    default Generator<T> filter(final Predicate<? super T> predicate) {
+        return filter(predicate, 1000);
+    }
+
+    default Generator<T> filter(final Predicate<? super T> predicate, final int maxAttempts) {
+        ensure(predicate != null, "predicate cannot be null");
+        ensure(maxAttempts > 0, "maximum number of attempts must be positive");
+
+        return new FilteredGenerator<>(this, predicate, maxAttempts);
+    }
+
+    default <U, R> Generator<R> zip(final Generator<? extends U> generatorOfU,
+                                    final BiFunction<? super T, ? super U, ? extends R> zipper) {
+        ensure(generatorOfU != null, "generator cannot be null");
+        ensure(zipper != null, "zipper cannot be null");
+
+        return () -> zipper.apply(next(), generatorOfU.next());
+    }
+
+    default <R> Generator<R> flatMap(final Function<? super T, ? extends Generator<? extends R>> mapper) {
+        ensure(mapper != null, "mapper cannot be null");
+
+        return () -> mapper.apply(next()).next();
+    }
+
+    default ParallelGenerator<T> parallel() {
+        return new ParallelGenerator<>(this);
+    }
 }
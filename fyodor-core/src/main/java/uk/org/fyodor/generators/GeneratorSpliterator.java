@@ -0,0 +1,253 @@
+package uk.org.fyodor.generators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import static uk.org.fyodor.generators.ChunkSeeds.CHUNK_SIZE;
+
+/*
+Covers the positions index..fence of a generated sequence. Values are produced on demand under seeds derived from their
+position and splits only happen on chunk boundaries, so every position has the same value however the sequence is
+split, consumed or limited. Each value is generated on its own, so taking the first value of a stream generates just
+that value; primitive values are cheap enough to be generated and buffered a chunk at a time.
+ */
+abstract class GeneratorSpliterator<S extends GeneratorSpliterator<S>> {
+
+    static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+
+    final ChunkSeeds chunkSeeds;
+    private final long fence;
+    long index;
+
+    GeneratorSpliterator(final ChunkSeeds chunkSeeds, final long index, final long fence) {
+        this.chunkSeeds = chunkSeeds;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    abstract S prefix(ChunkSeeds chunkSeeds, long index, long fence);
+
+    void handOver(final S prefix) {
+    }
+
+    final boolean hasNext() {
+        return index < fence;
+    }
+
+    public final S trySplit() {
+        final long from = index;
+        final long mid = ((from + fence) >>> 1) / CHUNK_SIZE * CHUNK_SIZE;
+        if (mid <= from) {
+            return null;
+        }
+
+        final S prefix = prefix(chunkSeeds, from, mid);
+        handOver(prefix);
+        index = mid;
+        return prefix;
+    }
+
+    public final long estimateSize() {
+        return fence - index;
+    }
+
+    public final int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    abstract static class Buffered<B, S extends Buffered<B, S>> extends GeneratorSpliterator<S> {
+
+        private final long fence;
+        private long bufferedChunk = -1;
+        B buffer;
+
+        Buffered(final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            super(chunkSeeds, index, fence);
+            this.fence = fence;
+        }
+
+        abstract B newBuffer(int size);
+
+        abstract void generate(B buffer, int count);
+
+        final int advance() {
+            final long chunk = index / CHUNK_SIZE;
+            if (chunk != bufferedChunk) {
+                final int count = (int) Math.min(CHUNK_SIZE, fence - chunk * CHUNK_SIZE);
+                if (buffer == null) {
+                    buffer = newBuffer(count);
+                }
+                final B chunkBuffer = buffer;
+                chunkSeeds.generate(chunk, () -> generate(chunkBuffer, count));
+                bufferedChunk = chunk;
+            }
+            return (int) (index++ - chunk * CHUNK_SIZE);
+        }
+
+        @Override
+        final void handOver(final S prefix) {
+            final Buffered<B, S> prefixSpliterator = prefix;
+            prefixSpliterator.buffer = buffer;
+            prefixSpliterator.bufferedChunk = bufferedChunk;
+            buffer = null;
+            bufferedChunk = -1;
+        }
+    }
+
+    static final class OfValues<T> extends GeneratorSpliterator<OfValues<T>> implements Spliterator<T> {
+
+        private final Generator<? extends T> generatorOfT;
+        private final Supplier<? extends T> next;
+
+        OfValues(final Generator<? extends T> generatorOfT, final long size) {
+            this(generatorOfT, new ChunkSeeds(), 0, size);
+        }
+
+        private OfValues(final Generator<? extends T> generatorOfT, final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            super(chunkSeeds, index, fence);
+            this.generatorOfT = generatorOfT;
+            this.next = generatorOfT::next;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(chunkSeeds.generateAt(index++, next));
+            return true;
+        }
+
+        @Override
+        OfValues<T> prefix(final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            return new OfValues<>(generatorOfT, chunkSeeds, index, fence);
+        }
+    }
+
+    static final class OfInts extends Buffered<int[], OfInts> implements Spliterator.OfInt {
+
+        private final IntGenerator generator;
+
+        OfInts(final IntGenerator generator, final long size) {
+            this(generator, new ChunkSeeds(), 0, size);
+        }
+
+        private OfInts(final IntGenerator generator, final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            super(chunkSeeds, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            final int offset = advance();
+            action.accept(buffer[offset]);
+            return true;
+        }
+
+        @Override
+        int[] newBuffer(final int size) {
+            return new int[size];
+        }
+
+        @Override
+        void generate(final int[] buffer, final int count) {
+            for (int i = 0; i < count; i++) {
+                buffer[i] = generator.nextInt();
+            }
+        }
+
+        @Override
+        OfInts prefix(final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            return new OfInts(generator, chunkSeeds, index, fence);
+        }
+    }
+
+    static final class OfLongs extends Buffered<long[], OfLongs> implements Spliterator.OfLong {
+
+        private final LongGenerator generator;
+
+        OfLongs(final LongGenerator generator, final long size) {
+            this(generator, new ChunkSeeds(), 0, size);
+        }
+
+        private OfLongs(final LongGenerator generator, final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            super(chunkSeeds, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            final int offset = advance();
+            action.accept(buffer[offset]);
+            return true;
+        }
+
+        @Override
+        long[] newBuffer(final int size) {
+            return new long[size];
+        }
+
+        @Override
+        void generate(final long[] buffer, final int count) {
+            for (int i = 0; i < count; i++) {
+                buffer[i] = generator.nextLong();
+            }
+        }
+
+        @Override
+        OfLongs prefix(final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            return new OfLongs(generator, chunkSeeds, index, fence);
+        }
+    }
+
+    static final class OfDoubles extends Buffered<double[], OfDoubles> implements Spliterator.OfDouble {
+
+        private final DoubleGenerator generator;
+
+        OfDoubles(final DoubleGenerator generator, final long size) {
+            this(generator, new ChunkSeeds(), 0, size);
+        }
+
+        private OfDoubles(final DoubleGenerator generator, final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            super(chunkSeeds, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public boolean tryAdvance(final DoubleConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            final int offset = advance();
+            action.accept(buffer[offset]);
+            return true;
+        }
+
+        @Override
+        double[] newBuffer(final int size) {
+            return new double[size];
+        }
+
+        @Override
+        void generate(final double[] buffer, final int count) {
+            for (int i = 0; i < count; i++) {
+                buffer[i] = generator.nextDouble();
+            }
+        }
+
+        @Override
+        OfDoubles prefix(final ChunkSeeds chunkSeeds, final long index, final long fence) {
+            return new OfDoubles(generator, chunkSeeds, index, fence);
+        }
+    }
+}
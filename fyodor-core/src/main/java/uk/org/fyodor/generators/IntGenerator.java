@@ -0,0 +1,29 @@
+package uk.org.fyodor.generators;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/**
+ * A {@link Generator} of {@code int} values which can be consumed without boxing through {@link #nextInt()}.
+ */
+public interface IntGenerator extends Generator<Integer> {
+
+    int nextInt();
+
+    @Override
+    default Integer next() {
+        return nextInt();
+    }
+
+    default IntStream intStream() {
+        return intStream(Long.MAX_VALUE);
+    }
+
+    default IntStream intStream(final long size) {
+        ensure(size >= 0, "size cannot be negative");
+
+        return StreamSupport.intStream(new GeneratorSpliterator.OfInts(this, size), false);
+    }
+}
@@ -0,0 +1,41 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.function.Consumer;
+
+final class IntegerRangeGenerator implements IntGenerator, EnumerableGenerator<Integer> {
+
+    private final RandomValues randomValues;
+    private final Range<Integer> range;
+
+    IntegerRangeGenerator(final RandomValues randomValues, final Range<Integer> range) {
+        this.randomValues = randomValues;
+        this.range = range;
+    }
+
+    @Override
+    public int nextInt() {
+        return randomValues.randomInteger(range.lowerBound(), range.upperBound());
+    }
+
+    @Override
+    public long domainSize() {
+        return (long) range.upperBound() - range.lowerBound() + 1;
+    }
+
+    @Override
+    public Integer valueAt(final long index) {
+        return (int) (range.lowerBound() + index);
+    }
+
+    @Override
+    public void next(final int count, final Consumer<? super Integer> consumer) {
+        ChunkedDraws.draw(count, int[]::new, chunk -> randomValues.fillIntegers(chunk, range.lowerBound(), range.upperBound()), chunk -> {
+            for (final int value : chunk) {
+                consumer.accept(value);
+            }
+        });
+    }
+}
@@ -1,22 +1,38 @@
 package uk.org.fyodor.generators;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
+/*
+Only locales with a three letter country code are kept, so each code is as likely as before without retrying locales
+that have none.
+ */
 public class Iso3CountryGenerator implements Generator<String> {
 
-    private final Generator<Locale> localeGenerator = RDG.locale();
+    private final Generator<String> countryGenerator = RDG.value(Iso3Countries.codes);
 
     public String next() {
-        String country;
-        try {
-            country = localeGenerator.next().getISO3Country();
-        } catch (MissingResourceException e) {
-            return next();
-        }
-        if (country.isEmpty()) {
-            return next();
+        return countryGenerator.next();
+    }
+
+    private static final class Iso3Countries {
+        private static final List<String> codes = codesOfAvailableLocales();
+
+        private static List<String> codesOfAvailableLocales() {
+            final List<String> codes = new ArrayList<>();
+            for (final Locale locale : Locale.getAvailableLocales()) {
+                try {
+                    final String country = locale.getISO3Country();
+                    if (!country.isEmpty()) {
+                        codes.add(country);
+                    }
+                } catch (final MissingResourceException e) {
+                    /* the locale's country has no three letter code */
+                }
+            }
+            return codes;
         }
-        return country;
     }
 }
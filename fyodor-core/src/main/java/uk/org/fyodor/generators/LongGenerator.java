@@ -1,20 +1,29 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.random.RandomValues;
-import uk.org.fyodor.range.Range;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
-final class LongGenerator implements Generator<Long> {
+import static uk.org.fyodor.generators.Validations.ensure;
 
-    private final RandomValues randomValues;
-    private final Range<Long> range;
+/**
+ * A {@link Generator} of {@code long} values which can be consumed without boxing through {@link #nextLong()}.
+ */
+public interface LongGenerator extends Generator<Long> {
 
-    LongGenerator(final RandomValues randomValues, final Range<Long> range) {
-        this.randomValues = randomValues;
-        this.range = range;
-    }
+    long nextLong();
 
     @Override
-    public Long next() {
-        return randomValues.randomLong(range.lowerBound(), range.upperBound());
+    default Long next() {
+        return nextLong();
+    }
+
+    default LongStream longStream() {
+        return longStream(Long.MAX_VALUE);
+    }
+
+    default LongStream longStream(final long size) {
+        ensure(size >= 0, "size cannot be negative");
+
+        return StreamSupport.longStream(new GeneratorSpliterator.OfLongs(this, size), false);
     }
 }
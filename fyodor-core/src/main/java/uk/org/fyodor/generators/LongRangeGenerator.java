@@ -0,0 +1,42 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.function.Consumer;
+
+final class LongRangeGenerator implements LongGenerator, EnumerableGenerator<Long> {
+
+    private final RandomValues randomValues;
+    private final Range<Long> range;
+
+    LongRangeGenerator(final RandomValues randomValues, final Range<Long> range) {
+        this.randomValues = randomValues;
+        this.range = range;
+    }
+
+    @Override
+    public long nextLong() {
+        return randomValues.randomLong(range.lowerBound(), range.upperBound());
+    }
+
+    @Override
+    public long domainSize() {
+        final long span = range.upperBound() - range.lowerBound();
+        return span < 0 || span == Long.MAX_VALUE ? Long.MAX_VALUE : span + 1;
+    }
+
+    @Override
+    public Long valueAt(final long index) {
+        return range.lowerBound() + index;
+    }
+
+    @Override
+    public void next(final int count, final Consumer<? super Long> consumer) {
+        ChunkedDraws.draw(count, long[]::new, chunk -> randomValues.fillLongs(chunk, range.lowerBound(), range.upperBound()), chunk -> {
+            for (final long value : chunk) {
+                consumer.accept(value);
+            }
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package uk.org.fyodor.generators;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+Consecutive maps are composed into a single function over the original generator, so a chain of them costs one
+generator call however long it is, and bulk generation still reaches the original generator's bulk implementation.
+ */
+final class MappedGenerator<T, R> implements Generator<R> {
+
+    private final Generator<? extends T> generatorOfT;
+    private final Function<? super T, ? extends R> mapper;
+
+    MappedGenerator(final Generator<? extends T> generatorOfT, final Function<? super T, ? extends R> mapper) {
+        this.generatorOfT = generatorOfT;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public R next() {
+        return mapper.apply(generatorOfT.next());
+    }
+
+    @Override
+    public void next(final int count, final Consumer<? super R> consumerOfR) {
+        generatorOfT.next(count, t -> consumerOfR.accept(mapper.apply(t)));
+    }
+
+    @Override
+    public <V> Generator<V> map(final Function<? super R, ? extends V> nextMapper) {
+        ensure(nextMapper != null, "mapper cannot be null");
+
+        final Function<? super T, ? extends R> mapper = this.mapper;
+        return new MappedGenerator<T, V>(generatorOfT, t -> nextMapper.apply(mapper.apply(t)));
+    }
+}
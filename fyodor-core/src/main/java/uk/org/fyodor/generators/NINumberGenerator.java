@@ -1,21 +1,46 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
 
 /*
 rules for format taken from http://en.wikipedia.org/wiki/National_Insurance_number#Format
  */
-public class NINumberGenerator implements Generator<String> {
+public class NINumberGenerator implements TextGenerator {
 
-    private final Generator<String> beginning = RDG.string(2, CharacterSetFilter.LettersOnly);
-    private final Generator<String> end = RDG.string(1, "ABCD");
+    private static final String[] prefixes = validPrefixes();
+    private static final String suffixes = "ABCD";
+
+    private final RandomValues randomValues = threadLocalSourceOfRandomness();
 
     @Override
-    public String next() {
-        String start = beginning.next();
-        if (start.matches("^(?!BG)(?!GB)(?!NK)(?!KN)(?!TN)(?!NT)(?!ZZ)(?:[A-CEGHJ-PR-TW-Z][A-CEGHJ-NPR-TW-Z])")) {
-            return String.format("%s%06d%s", start.toUpperCase(), RDG.integer(999999).next(), end.next());
+    public void appendTo(final StringBuilder builder) {
+        builder.append(prefixes[randomValues.randomInteger(0, prefixes.length - 1)]);
+
+        final int digits = randomValues.randomInteger(0, 999999);
+        for (int divisor = 100000; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + digits / divisor % 10));
+        }
+
+        builder.append(suffixes.charAt(randomValues.randomInteger(0, suffixes.length() - 1)));
+    }
+
+    private static String[] validPrefixes() {
+        final Pattern validPrefix = Pattern.compile("^(?!BG)(?!GB)(?!NK)(?!KN)(?!TN)(?!NT)(?!ZZ)(?:[A-CEGHJ-PR-TW-Z][A-CEGHJ-NPR-TW-Z])");
+        final List<String> prefixes = new ArrayList<>();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                final String prefix = new String(new char[]{first, second});
+                if (validPrefix.matcher(prefix).matches()) {
+                    prefixes.add(prefix);
+                }
+            }
         }
-        return next();
+        return prefixes.toArray(new String[0]);
     }
 }
@@ -0,0 +1,59 @@
+package uk.org.fyodor.generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static uk.org.fyodor.generators.ChunkSeeds.CHUNK_SIZE;
+import static uk.org.fyodor.generators.ChunkSeeds.numberOfChunks;
+import static uk.org.fyodor.generators.Validations.ensure;
+
+public final class ParallelGenerator<T> {
+
+    private final Generator<? extends T> generatorOfT;
+    private final Supplier<? extends T> next;
+
+    ParallelGenerator(final Generator<? extends T> generatorOfT) {
+        this.generatorOfT = generatorOfT;
+        this.next = generatorOfT::next;
+    }
+
+    public void fill(final T[] arrayOfT) {
+        ensure(arrayOfT != null, "array cannot be null");
+
+        generate(arrayOfT);
+    }
+
+    public List<T> toList(final int size) {
+        ensure(size >= 0, "size cannot be negative");
+
+        @SuppressWarnings("unchecked")
+        final T[] values = (T[]) new Object[size];
+        generate(values);
+        return new ArrayList<>(asList(values));
+    }
+
+    public Stream<T> stream(final long size) {
+        ensure(size >= 0, "size cannot be negative");
+
+        return StreamSupport.stream(new GeneratorSpliterator.OfValues<T>(generatorOfT, size), true);
+    }
+
+    private void generate(final Object[] values) {
+        final ChunkSeeds chunkSeeds = new ChunkSeeds();
+
+        IntStream.range(0, (int) numberOfChunks(values.length))
+                .parallel()
+                .forEach(chunk -> {
+                    final int from = chunk * CHUNK_SIZE;
+                    final int to = Math.min(from + CHUNK_SIZE, values.length);
+                    for (int i = from; i < to; i++) {
+                        values[i] = chunkSeeds.generateAt(i, next);
+                    }
+                });
+    }
+}
@@ -0,0 +1,21 @@
+package uk.org.fyodor.generators;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Generator} of byte payloads which can also write straight into a caller's {@link ByteBuffer} or
+ * {@code byte[]} region without allocating.
+ * <p>
+ * The {@code next} methods write a single payload, truncated to the space available, and the {@code fill} methods
+ * write one continuous payload until the space is used up. Both return the number of bytes written.
+ */
+public interface PayloadGenerator extends Generator<byte[]> {
+
+    int next(ByteBuffer buffer);
+
+    int next(byte[] bytes, int offset, int length);
+
+    int fill(ByteBuffer buffer);
+
+    int fill(byte[] bytes, int offset, int length);
+}
@@ -3,93 +3,73 @@ package uk.org.fyodor.generators;
 import uk.org.fyodor.generators.characters.CharacterFilter;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
 
-public class PostcodeGenerator implements Generator<String> {
+public class PostcodeGenerator implements TextGenerator {
 
-    private static Generator<String> letter = RDG.string(1, CharacterSetFilter.LettersOnly);
-    private static Generator<String> letterExceptIOrZ = RDG.string(1, new LetterExceptIOrZFilter());
-    private static Generator<Integer> number = RDG.integer(9);
-    private Generator<String> inwardCode = new InwardCodeGenerator();
-    private Generator<Boolean> girobankChanceGenerator = RDG.percentageChanceOf(1);
+    private static TextGenerator letter = RDG.string(1, CharacterSetFilter.LettersOnly);
+    private static TextGenerator letterExceptIOrZ = RDG.string(1, new LetterExceptIOrZFilter());
+    private static IntGenerator number = RDG.integer(9);
+    private BooleanGenerator girobankChanceGenerator = RDG.percentageChanceOf(1);
     private Generator<OutwardCodeOptions> outwardCodeOptionsGenerator = RDG.value(OutwardCodeOptions.values());
 
-    public String next() {
-        return girobankChanceGenerator.next() ? "GIR 0AA" :
-                outwardCodeOptionsGenerator.next().getGenerator().next() +
-                        " " +
-                        inwardCode.next();
+    @Override
+    public void appendTo(final StringBuilder builder) {
+        if (girobankChanceGenerator.nextBoolean()) {
+            builder.append("GIR 0AA");
+            return;
+        }
+
+        outwardCodeOptionsGenerator.next().appendTo(builder);
+        builder.append(' ');
+        appendInwardCode(builder);
+    }
+
+    private static void appendInwardCode(final StringBuilder builder) {
+        builder.append(number.nextInt());
+        letter.appendTo(builder);
+        letter.appendTo(builder);
     }
 
     private enum OutwardCodeOptions {
         twoLettersOneNumberOneLetter {
             @Override
-            OutwardCodeOption getGenerator() {
-                return new TwoLettersOneNumberAndOneLetterOption();
+            void appendTo(final StringBuilder builder) {
+                letter.appendTo(builder);
+                letterExceptIOrZ.appendTo(builder);
+                builder.append(number.nextInt());
+                letter.appendTo(builder);
             }
         },
         oneLetterOneNumberOneLetter {
             @Override
-            OutwardCodeOption getGenerator() {
-                return new OneLetterOneNumberOneLetterOption();
+            void appendTo(final StringBuilder builder) {
+                letter.appendTo(builder);
+                builder.append(number.nextInt());
+                letter.appendTo(builder);
             }
         },
         twoLettersOneOrTwoNumbers {
             @Override
-            OutwardCodeOption getGenerator() {
-                return new TwoLettersAndOneOrTwoNumbersOption();
+            void appendTo(final StringBuilder builder) {
+                letter.appendTo(builder);
+                letterExceptIOrZ.appendTo(builder);
+                appendOneOrTwoNumbers(builder);
             }
         },
         oneLetterOneOrTwoNumbers {
             @Override
-            OutwardCodeOption getGenerator() {
-                return new OneLetterAndOneOrTwoNumbersOption();
+            void appendTo(final StringBuilder builder) {
+                letter.appendTo(builder);
+                appendOneOrTwoNumbers(builder);
             }
         };
 
-        abstract OutwardCodeOption getGenerator();
-    }
-
-    private interface OutwardCodeOption extends Generator<String> {
-    }
-
-    private static class InwardCodeGenerator implements Generator<String> {
-        @Override
-        public String next() {
-            return number.next() + letter.next() + letter.next();
-        }
-    }
-
-    private static class OneLetterOneNumberOneLetterOption implements OutwardCodeOption {
-        @Override
-        public String next() {
-            return letter.next() + number.next() + letter.next();
-        }
-    }
-
-    private static class TwoLettersAndOneOrTwoNumbersOption implements OutwardCodeOption {
-        @Override
-        public String next() {
-            return letter.next() +
-                    letterExceptIOrZ.next() +
-                    number.next() +
-                    (RDG.bool().next() ? number.next() : "");
-        }
-    }
-
-    private static class TwoLettersOneNumberAndOneLetterOption implements OutwardCodeOption {
+        abstract void appendTo(StringBuilder builder);
 
-        @Override
-        public String next() {
-            return letter.next() +
-                    letterExceptIOrZ.next() +
-                    number.next() +
-                    letter.next();
-        }
-    }
-
-    private static class OneLetterAndOneOrTwoNumbersOption implements OutwardCodeOption {
-        @Override
-        public String next() {
-            return letter.next() + number.next() + (RDG.bool().next() ? number.next() : "");
+        private static void appendOneOrTwoNumbers(final StringBuilder builder) {
+            builder.append(number.nextInt());
+            if (RDG.bool().nextBoolean()) {
+                builder.append(number.nextInt());
+            }
         }
     }
 
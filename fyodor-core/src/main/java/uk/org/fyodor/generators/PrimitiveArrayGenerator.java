@@ -0,0 +1,194 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+/*
+Arrays are allocated once at the drawn size and filled through the bulk methods of RandomValues, so there is no
+boxing and no call through a Generator per element. Types without a bulk method are drawn through a small reusable
+chunk of a wider type and narrowed.
+ */
+abstract class PrimitiveArrayGenerator<A> implements Generator<A> {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    final RandomValues randomValues;
+    private final Range<Integer> sizeRange;
+
+    PrimitiveArrayGenerator(final RandomValues randomValues, final Range<Integer> sizeRange) {
+        this.randomValues = randomValues;
+        this.sizeRange = sizeRange;
+    }
+
+    @Override
+    public A next() {
+        return generate(randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound()));
+    }
+
+    abstract A generate(int size);
+
+    static final class OfInts extends PrimitiveArrayGenerator<int[]> {
+        private final int lower;
+        private final int upper;
+
+        OfInts(final RandomValues randomValues, final Range<Integer> sizeRange, final Range<Integer> valueRange) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+        }
+
+        @Override
+        int[] generate(final int size) {
+            final int[] ints = new int[size];
+            randomValues.fillIntegers(ints, lower, upper);
+            return ints;
+        }
+    }
+
+    static final class OfLongs extends PrimitiveArrayGenerator<long[]> {
+        private final long lower;
+        private final long upper;
+
+        OfLongs(final RandomValues randomValues, final Range<Integer> sizeRange, final Range<Long> valueRange) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+        }
+
+        @Override
+        long[] generate(final int size) {
+            final long[] longs = new long[size];
+            randomValues.fillLongs(longs, lower, upper);
+            return longs;
+        }
+    }
+
+    static final class OfDoubles extends PrimitiveArrayGenerator<double[]> {
+        private final double lower;
+        private final double upper;
+
+        OfDoubles(final RandomValues randomValues, final Range<Integer> sizeRange, final Range<Double> valueRange) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+        }
+
+        @Override
+        double[] generate(final int size) {
+            final double[] doubles = new double[size];
+            randomValues.fillDoubles(doubles, lower, upper);
+            return doubles;
+        }
+    }
+
+    /*
+    Uniform doubles are drawn in bulk and turned into normally distributed pairs with the Box-Muller transform.
+     */
+    static final class OfGaussianDoubles extends PrimitiveArrayGenerator<double[]> {
+        private final double mean;
+        private final double standardDeviation;
+
+        OfGaussianDoubles(final RandomValues randomValues, final Range<Integer> sizeRange, final double mean, final double standardDeviation) {
+            super(randomValues, sizeRange);
+            this.mean = mean;
+            this.standardDeviation = standardDeviation;
+        }
+
+        @Override
+        double[] generate(final int size) {
+            final double[] doubles = new double[size];
+            randomValues.fillDoubles(doubles, 0.0, 1.0);
+            for (int i = 0; i + 1 < size; i += 2) {
+                final double radius = Math.sqrt(-2.0 * Math.log(1.0 - doubles[i]));
+                final double angle = 2.0 * Math.PI * doubles[i + 1];
+                doubles[i] = mean + standardDeviation * radius * Math.cos(angle);
+                doubles[i + 1] = mean + standardDeviation * radius * Math.sin(angle);
+            }
+            if ((size & 1) == 1) {
+                final double radius = Math.sqrt(-2.0 * Math.log(1.0 - doubles[size - 1]));
+                final double angle = 2.0 * Math.PI * randomValues.randomDouble(0.0, 1.0);
+                doubles[size - 1] = mean + standardDeviation * radius * Math.cos(angle);
+            }
+            return doubles;
+        }
+    }
+
+    static final class OfFloats extends PrimitiveArrayGenerator<float[]> {
+        private final float lower;
+        private final float upper;
+
+        OfFloats(final RandomValues randomValues, final Range<Integer> sizeRange, final Range<Float> valueRange) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+        }
+
+        @Override
+        float[] generate(final int size) {
+            final float[] floats = new float[size];
+            final double[] chunk = new double[Math.min(size, CHUNK_SIZE)];
+            for (int offset = 0; offset < size; offset += chunk.length) {
+                randomValues.fillDoubles(chunk, 0.0, 1.0);
+                for (int i = 0, end = Math.min(chunk.length, size - offset); i < end; i++) {
+                    final float next = (float) chunk[i];
+                    floats[offset + i] = Math.max(lower, Math.min(upper, next * upper + (1.0f - next) * lower));
+                }
+            }
+            return floats;
+        }
+    }
+
+    static final class OfShorts extends PrimitiveArrayGenerator<short[]> {
+        private final int lower;
+        private final int upper;
+
+        OfShorts(final RandomValues randomValues, final Range<Integer> sizeRange, final Range<Integer> valueRange) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+        }
+
+        @Override
+        short[] generate(final int size) {
+            final short[] shorts = new short[size];
+            final int[] chunk = new int[Math.min(size, CHUNK_SIZE)];
+            for (int offset = 0; offset < size; offset += chunk.length) {
+                randomValues.fillIntegers(chunk, lower, upper);
+                for (int i = 0, end = Math.min(chunk.length, size - offset); i < end; i++) {
+                    shorts[offset + i] = (short) chunk[i];
+                }
+            }
+            return shorts;
+        }
+    }
+
+    static final class OfChars extends PrimitiveArrayGenerator<char[]> {
+        private final CharacterSampler characterSampler;
+
+        OfChars(final RandomValues randomValues, final Range<Integer> sizeRange, final char[] charSet) {
+            super(randomValues, sizeRange);
+            this.characterSampler = new CharacterSampler(charSet);
+        }
+
+        @Override
+        char[] generate(final int size) {
+            final char[] chars = new char[size];
+            characterSampler.fill(randomValues, chars);
+            return chars;
+        }
+    }
+
+    static final class OfBooleans extends PrimitiveArrayGenerator<boolean[]> {
+
+        OfBooleans(final RandomValues randomValues, final Range<Integer> sizeRange) {
+            super(randomValues, sizeRange);
+        }
+
+        @Override
+        boolean[] generate(final int size) {
+            final boolean[] booleans = new boolean[size];
+            randomValues.fillBooleans(booleans);
+            return booleans;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package uk.org.fyodor.generators;
 
+import uk.org.fyodor.generators.characters.CharacterClass;
 import uk.org.fyodor.generators.characters.CharacterFilter;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
 import uk.org.fyodor.generators.characters.CharacterSetGenerator;
 import uk.org.fyodor.generators.characters.CharacterSetRange;
+import uk.org.fyodor.generators.characters.CodePointSet;
 import uk.org.fyodor.generators.collections.ArrayGenerator;
+import uk.org.fyodor.generators.collections.CollectionOptions;
+import uk.org.fyodor.generators.collections.LazyList;
 import uk.org.fyodor.generators.collections.ListGenerator;
 import uk.org.fyodor.generators.collections.MapGenerator;
 import uk.org.fyodor.generators.collections.SetGenerator;
+import uk.org.fyodor.generators.regex.RegexGenerator;
 import uk.org.fyodor.generators.time.*;
 import uk.org.fyodor.range.Range;
 
@@ -21,18 +26,18 @@ import static java.time.ZoneId.getAvailableZoneIds;
 import static java.util.Arrays.asList;
 import static java.util.UUID.nameUUIDFromBytes;
 import static uk.org.fyodor.generators.Validations.*;
-import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
 import static uk.org.fyodor.range.Range.closed;
 import static uk.org.fyodor.range.Range.fixed;
 
 @SuppressWarnings("WeakerAccess")
 public class RDG {
 
-    private static final Generator<String> STRING_GENERATOR = string(30);
-    private static final Generator<Integer> INTEGER_GENERATOR = integer(closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
-    private static final BooleanGenerator BOOLEAN_GENERATOR = new BooleanGenerator(sourceOfRandomness());
-    private static final Generator<Long> LONG_GENERATOR = longVal(closed(Long.MIN_VALUE, Long.MAX_VALUE));
-    private static final Generator<Double> DOUBLE_GENERATOR = doubleVal(closed(Double.MIN_VALUE, Double.MAX_VALUE));
+    private static final TextGenerator STRING_GENERATOR = string(30);
+    private static final IntGenerator INTEGER_GENERATOR = integer(closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    private static final BooleanGenerator BOOLEAN_GENERATOR = new UniformBooleanGenerator(threadLocalSourceOfRandomness());
+    private static final LongGenerator LONG_GENERATOR = longVal(closed(Long.MIN_VALUE, Long.MAX_VALUE));
+    private static final DoubleGenerator DOUBLE_GENERATOR = doubleVal(closed(Double.MIN_VALUE, Double.MAX_VALUE));
     private static final Generator<BigDecimal> BIG_DECIMAL_GENERATOR = bigDecimal(closed(BigDecimal.valueOf(Double.MIN_VALUE), BigDecimal.valueOf(Double.MAX_VALUE)));
     private static final DomainGenerator DOMAIN_GENERATOR = new DomainGenerator();
     private static final SuffixGenerator SUFFIX_GENERATOR = new SuffixGenerator();
@@ -56,7 +61,7 @@ public class RDG {
     public static Generator<Instant> instant(final Range<Instant> range) {
         ensure(isNotNull(range), "instant range cannot be null");
 
-        return new InstantGenerator(sourceOfRandomness(), range);
+        return new InstantGenerator(threadLocalSourceOfRandomness(), range);
     }
 
     public static Generator<LocalTime> localTime() {
@@ -70,7 +75,7 @@ public class RDG {
     public static Generator<LocalTime> localTime(final Range<LocalTime> range) {
         ensure(isNotNull(range), "time range cannot be null");
 
-        return new LocalTimeGenerator(sourceOfRandomness(), range);
+        return new LocalTimeGenerator(threadLocalSourceOfRandomness(), range);
     }
 
     public static Generator<LocalDate> localDate() {
@@ -84,7 +89,7 @@ public class RDG {
     public static Generator<LocalDate> localDate(final Range<LocalDate> range) {
         ensure(isNotNull(range), "date range cannot be null");
 
-        return new LocalDateGenerator(sourceOfRandomness(), range);
+        return new LocalDateGenerator(threadLocalSourceOfRandomness(), range);
     }
 
     public static Generator<ZonedDateTime> zonedDateTime() {
@@ -121,7 +126,7 @@ public class RDG {
         return () -> ZoneId.of(REGION_BASED_ZONE_ID_GENERATOR.next());
     }
 
-    public static Generator<Boolean> bool() {
+    public static BooleanGenerator bool() {
         return BOOLEAN_GENERATOR;
     }
 
@@ -133,12 +138,40 @@ public class RDG {
         ensure(range.lowerBound() >= Byte.MIN_VALUE, format("Lower bound %s must be within the range %s..%s", range.lowerBound(), Byte.MIN_VALUE, Byte.MAX_VALUE));
         ensure(range.upperBound() <= Byte.MAX_VALUE, format("Upper bound %s must be within the range %s..%s", range.upperBound(), Byte.MIN_VALUE, Byte.MAX_VALUE));
 
-        return () -> sourceOfRandomness()
-                .randomByte(range.lowerBound().byteValue(), range.upperBound().byteValue());
+        final IntGenerator generator = integer(range);
+        return () -> (byte) generator.nextInt();
     }
 
     public static Generator<byte[]> byteArray() {
-        return () -> sourceOfRandomness().randomBytes(10);
+        return () -> threadLocalSourceOfRandomness().randomBytes(10);
+    }
+
+    public static PayloadGenerator byteArray(final Range<Integer> size) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+
+        return byteArray(integer(size));
+    }
+
+    public static PayloadGenerator byteArray(final IntGenerator sizeGenerator) {
+        ensure(isNotNull(sizeGenerator), "size generator cannot be null");
+
+        return new RandomBytesGenerator(threadLocalSourceOfRandomness(), sizeGenerator);
+    }
+
+    public static PayloadGenerator utf8Text(final Range<Integer> length, final CodePointSet codePoints) {
+        ensure(isNotNull(length), "length range cannot be null");
+        ensure(length.lowerBound() >= 0, "length cannot be negative");
+
+        return utf8Text(integer(length), codePoints);
+    }
+
+    public static PayloadGenerator utf8Text(final IntGenerator lengthGenerator, final CodePointSet codePoints) {
+        ensure(isNotNull(lengthGenerator), "length generator cannot be null");
+        ensure(isNotNull(codePoints), "code points cannot be null");
+        ensure(!codePoints.isEmpty(), "code points cannot be empty");
+
+        return new Utf8TextGenerator(threadLocalSourceOfRandomness(), lengthGenerator, codePoints);
     }
 
     public static Generator<Short> shortVal() {
@@ -149,53 +182,53 @@ public class RDG {
         ensure(range.lowerBound() >= Short.MIN_VALUE, format("Lower bound %s must be within the range %s..%s", range.lowerBound(), Short.MIN_VALUE, Short.MAX_VALUE));
         ensure(range.upperBound() <= Short.MAX_VALUE, format("Upper bound %s must be within the range %s..%s", range.upperBound(), Short.MIN_VALUE, Short.MAX_VALUE));
 
-        return () -> sourceOfRandomness()
-                .randomShort(range.lowerBound().shortValue(), range.upperBound().shortValue());
+        final IntGenerator generator = integer(range);
+        return () -> (short) generator.nextInt();
     }
 
-    public static Generator<Integer> integer() {
+    public static IntGenerator integer() {
         return INTEGER_GENERATOR;
     }
 
-    public static Generator<Integer> integer(final int maximum) {
+    public static IntGenerator integer(final int maximum) {
         ensure(isNotNegative(maximum), "maximum cannot be negative");
 
         return integer(closed(0, maximum));
     }
 
-    public static Generator<Integer> integer(final Range<Integer> range) {
+    public static IntGenerator integer(final Range<Integer> range) {
         ensure(isNotNull(range), "range cannot be null");
 
-        return new IntegerGenerator(sourceOfRandomness(), range);
+        return new IntegerRangeGenerator(threadLocalSourceOfRandomness(), range);
     }
 
-    public static Generator<Long> longVal() {
+    public static LongGenerator longVal() {
         return LONG_GENERATOR;
     }
 
-    public static Generator<Long> longVal(final long maximum) {
+    public static LongGenerator longVal(final long maximum) {
         ensure(isNotNegative(maximum), "maximum cannot be negative");
 
         return longVal(closed(0L, maximum));
     }
 
-    public static Generator<Long> longVal(final Range<Long> range) {
+    public static LongGenerator longVal(final Range<Long> range) {
         ensure(isNotNull(range), "range cannot be null");
 
-        return new LongGenerator(sourceOfRandomness(), range);
+        return new LongRangeGenerator(threadLocalSourceOfRandomness(), range);
     }
 
-    public static Generator<Double> doubleVal() {
+    public static DoubleGenerator doubleVal() {
         return DOUBLE_GENERATOR;
     }
 
-    public static Generator<Double> doubleVal(final double maximum) {
+    public static DoubleGenerator doubleVal(final double maximum) {
         ensure(isNotNegative(maximum), "maximum cannot be negative");
 
         return doubleVal(closed(0.0, maximum));
     }
 
-    public static Generator<Double> doubleVal(final Range<Double> range) {
+    public static DoubleGenerator doubleVal(final Range<Double> range) {
         ensure(isNotNull(range), "range cannot be null");
 
         final double lowerBound = range.lowerBound();
@@ -204,7 +237,126 @@ public class RDG {
         final double upperBound = range.upperBound();
         ensure(isNumber(upperBound) && isNotInfinite(upperBound), "upper bound must be a number and cannot be infinite");
 
-        return new DoubleGenerator(sourceOfRandomness(), range);
+        return new DoubleRangeGenerator(threadLocalSourceOfRandomness(), range);
+    }
+
+    public static Generator<int[]> intArray(final Range<Integer> size, final Range<Integer> values) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+
+        return new PrimitiveArrayGenerator.OfInts(threadLocalSourceOfRandomness(), size, values);
+    }
+
+    public static Generator<long[]> longArray(final Range<Integer> size, final Range<Long> values) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+
+        return new PrimitiveArrayGenerator.OfLongs(threadLocalSourceOfRandomness(), size, values);
+    }
+
+    public static Generator<double[]> doubleArray(final Range<Integer> size, final Range<Double> values) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+        ensure(isNumber(values.lowerBound()) && isNotInfinite(values.lowerBound()), "lower bound must be a number and cannot be infinite");
+        ensure(isNumber(values.upperBound()) && isNotInfinite(values.upperBound()), "upper bound must be a number and cannot be infinite");
+
+        return new PrimitiveArrayGenerator.OfDoubles(threadLocalSourceOfRandomness(), size, values);
+    }
+
+    public static Generator<double[]> gaussianDoubleArray(final Range<Integer> size, final double mean, final double standardDeviation) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNumber(mean) && isNotInfinite(mean), "mean must be a number and cannot be infinite");
+        ensure(isNumber(standardDeviation) && isNotInfinite(standardDeviation) && isNotNegative(standardDeviation),
+                "standard deviation must be a non-negative number and cannot be infinite");
+
+        return new PrimitiveArrayGenerator.OfGaussianDoubles(threadLocalSourceOfRandomness(), size, mean, standardDeviation);
+    }
+
+    public static Generator<float[]> floatArray(final Range<Integer> size, final Range<Float> values) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+        ensure(isNumber(values.lowerBound()) && isNotInfinite(values.lowerBound()), "lower bound must be a number and cannot be infinite");
+        ensure(isNumber(values.upperBound()) && isNotInfinite(values.upperBound()), "upper bound must be a number and cannot be infinite");
+
+        return new PrimitiveArrayGenerator.OfFloats(threadLocalSourceOfRandomness(), size, values);
+    }
+
+    public static Generator<short[]> shortArray(final Range<Integer> size, final Range<Integer> values) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+        ensure(values.lowerBound() >= Short.MIN_VALUE, format("Lower bound %s must be within the range %s..%s", values.lowerBound(), Short.MIN_VALUE, Short.MAX_VALUE));
+        ensure(values.upperBound() <= Short.MAX_VALUE, format("Upper bound %s must be within the range %s..%s", values.upperBound(), Short.MIN_VALUE, Short.MAX_VALUE));
+
+        return new PrimitiveArrayGenerator.OfShorts(threadLocalSourceOfRandomness(), size, values);
+    }
+
+    public static Generator<char[]> charArray(final Range<Integer> size, final CharacterClass characterClass) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(characterClass), "character class cannot be null");
+        ensure(!characterClass.isEmpty(), "character class cannot be empty");
+
+        return new PrimitiveArrayGenerator.OfChars(threadLocalSourceOfRandomness(), size, characterClass.toCharArray());
+    }
+
+    public static Generator<boolean[]> booleanArray(final Range<Integer> size) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+
+        return new PrimitiveArrayGenerator.OfBooleans(threadLocalSourceOfRandomness(), size);
+    }
+
+    public static Generator<int[]> sortedIntArray(final Range<Integer> size, final Range<Integer> values, final SortOrder order) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+        ensure(isNotNull(order), "sort order cannot be null");
+        ensureRoomForStrictlyIncreasing(size, (long) values.upperBound() - values.lowerBound(), order);
+
+        return new SortedArrayGenerator.OfInts(threadLocalSourceOfRandomness(), size, values, order);
+    }
+
+    public static Generator<long[]> sortedLongArray(final Range<Integer> size, final Range<Long> values, final SortOrder order) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+        ensure(isNotNull(order), "sort order cannot be null");
+        ensureRoomForStrictlyIncreasing(size, values.upperBound() - values.lowerBound(), order);
+
+        return new SortedArrayGenerator.OfLongs(threadLocalSourceOfRandomness(), size, values, order);
+    }
+
+    public static Generator<double[]> sortedDoubleArray(final Range<Integer> size, final Range<Double> values, final SortOrder order) {
+        ensure(isNotNull(size), "size range cannot be null");
+        ensure(size.lowerBound() >= 0, "size cannot be negative");
+        ensure(isNotNull(values), "value range cannot be null");
+        ensure(isNumber(values.lowerBound()) && isNotInfinite(values.lowerBound()), "lower bound must be a number and cannot be infinite");
+        ensure(isNumber(values.upperBound()) && isNotInfinite(values.upperBound()), "upper bound must be a number and cannot be infinite");
+        ensure(isNotNull(order), "sort order cannot be null");
+        ensure(order == SortOrder.NON_DECREASING || size.upperBound() <= 1 || values.lowerBound() < values.upperBound(),
+                "strictly increasing doubles need a range with more than one value");
+
+        return new SortedArrayGenerator.OfDoubles(threadLocalSourceOfRandomness(), size, values, order);
+    }
+
+    public static Generator<List<Instant>> sortedInstantList(final Range<Integer> size, final Range<Instant> range, final SortOrder order) {
+        ensure(isNotNull(range), "instant range cannot be null");
+
+        return sortedLongArray(size, closed(range.lowerBound().getEpochSecond(), range.upperBound().getEpochSecond()), order)
+                .map(seconds -> SortedArrayGenerator.toList(seconds, Instant::ofEpochSecond));
+    }
+
+    public static Generator<List<LocalDate>> sortedLocalDateList(final Range<Integer> size, final Range<LocalDate> range, final SortOrder order) {
+        ensure(isNotNull(range), "date range cannot be null");
+
+        return sortedLongArray(size, closed(range.lowerBound().toEpochDay(), range.upperBound().toEpochDay()), order)
+                .map(days -> SortedArrayGenerator.toList(days, LocalDate::ofEpochDay));
     }
 
     public static Generator<BigDecimal> bigDecimal() {
@@ -231,95 +383,145 @@ public class RDG {
         ensure(isNotNull(range), "range cannot be null");
         ensure(isNotNegative(scale), "scale cannot be negative");
 
-        return new BigDecimalGenerator(sourceOfRandomness(), range, scale);
+        return new BigDecimalGenerator(threadLocalSourceOfRandomness(), range, scale);
     }
 
     public static Generator<UUID> uuid() {
-        return () -> nameUUIDFromBytes(sourceOfRandomness().randomBytes(5));
+        return () -> nameUUIDFromBytes(threadLocalSourceOfRandomness().randomBytes(5));
     }
 
-    public static Generator<String> string() {
+    public static TextGenerator string() {
         return STRING_GENERATOR;
     }
 
-    public static Generator<String> string(Integer max) {
+    public static TextGenerator string(Integer max) {
         return new StringGenerator(max);
     }
 
-    public static Generator<String> string(Integer max, String charset) {
+    public static TextGenerator string(Integer max, String charset) {
         return new StringGenerator(max, charset);
     }
 
-    public static Generator<String> string(Range<Integer> range, String charset) {
+    public static TextGenerator string(Range<Integer> range, String charset) {
         return new StringGenerator(range, charset);
     }
 
-    public static Generator<String> string(Integer max, CharacterFilter filter) {
+    public static TextGenerator string(Integer max, CharacterFilter filter) {
         return new StringGenerator(max, filter);
     }
 
-    public static Generator<String> string(Range<Integer> range, CharacterFilter filter) {
+    public static TextGenerator string(Range<Integer> range, CharacterFilter filter) {
         return new StringGenerator(range, filter);
     }
 
-    public static Generator<String> string(Integer max, CharacterSetFilter filter) {
+    public static TextGenerator string(Integer max, CharacterSetFilter filter) {
         return new StringGenerator(max, filter.getFilter());
     }
 
     @SafeVarargs
-    public static Generator<String> string(Integer max, CharacterFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Integer max, CharacterFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(max, new CharacterSetGenerator(filter, ranges));
     }
 
     @SafeVarargs
-    public static Generator<String> string(Integer max, CharacterSetFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Integer max, CharacterSetFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(max, new CharacterSetGenerator(filter.getFilter(), ranges));
     }
 
-    public static Generator<String> string(Range<Integer> range, CharacterSetFilter filter) {
+    public static TextGenerator string(Range<Integer> range, CharacterSetFilter filter) {
         return new StringGenerator(range, filter.getFilter());
     }
 
     @SafeVarargs
-    public static Generator<String> string(Range<Integer> range, CharacterSetFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Range<Integer> range, CharacterSetFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(range, new CharacterSetGenerator(filter.getFilter(), ranges));
     }
 
     @SafeVarargs
-    public static Generator<String> string(Range<Integer> range, CharacterFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Range<Integer> range, CharacterFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(range, new CharacterSetGenerator(filter, ranges));
     }
 
     @SafeVarargs
-    public static Generator<String> string(Integer max, Range<Integer>... ranges) {
+    public static TextGenerator string(Integer max, Range<Integer>... ranges) {
         return new StringGenerator(max, ranges);
     }
 
-    public static Generator<String> string(Integer max, CharacterSetRange... characterSetRanges) {
+    public static TextGenerator string(Integer max, CharacterSetRange... characterSetRanges) {
         return new StringGenerator(max, characterSetRanges);
     }
 
-    public static Generator<String> string(Integer max, char[] chars) {
+    public static TextGenerator string(Integer max, char[] chars) {
         return new StringGenerator(max, chars);
     }
 
-    public static Generator<String> string(Range<Integer> range, char[] chars) {
+    public static TextGenerator string(Range<Integer> range, char[] chars) {
         return new StringGenerator(range, chars);
     }
 
-    public static Generator<String> string(Range<Integer> range) {
+    public static TextGenerator string(Range<Integer> range) {
         return new StringGenerator(range);
     }
 
     @SafeVarargs
-    public static Generator<String> string(Range<Integer> stringLength, Range<Integer>... charSetRanges) {
+    public static TextGenerator string(Range<Integer> stringLength, Range<Integer>... charSetRanges) {
         return new StringGenerator(stringLength, charSetRanges);
     }
 
-    public static Generator<String> string(Range<Integer> stringLength, CharacterSetRange... charSetRanges) {
+    public static TextGenerator string(Range<Integer> stringLength, CharacterSetRange... charSetRanges) {
         return new StringGenerator(stringLength, charSetRanges);
     }
 
+    public static TextGenerator string(Integer max, CharacterClass characterClass) {
+        return string(fixed(max), characterClass);
+    }
+
+    public static TextGenerator string(Range<Integer> range, CharacterClass characterClass) {
+        ensure(isNotNull(characterClass), "character class cannot be null");
+        ensure(!characterClass.isEmpty(), "character class cannot be empty");
+
+        return new StringGenerator(range, new CharacterSetGenerator(characterClass));
+    }
+
+    public static TextGenerator uniqueString(final Integer length, final CharacterClass characterClass) {
+        ensure(isNotNull(length), "length cannot be null");
+
+        return uniqueString(fixed(length), characterClass);
+    }
+
+    public static TextGenerator uniqueString(final Range<Integer> lengths, final CharacterClass characterClass) {
+        ensure(isNotNull(lengths), "length range cannot be null");
+        ensure(lengths.lowerBound() >= 0, "length cannot be negative");
+        ensure(isNotNull(characterClass), "character class cannot be null");
+        ensure(!characterClass.isEmpty(), "character class cannot be empty");
+
+        return new UniqueStringGenerator(threadLocalSourceOfRandomness(), lengths, characterClass.toCharArray());
+    }
+
+    public static Generator<String> unicodeString(final Integer length, final CodePointSet codePoints) {
+        return unicodeString(fixed(length), codePoints);
+    }
+
+    public static Generator<String> unicodeString(final Range<Integer> length, final CodePointSet codePoints) {
+        ensure(isNotNull(length), "length range cannot be null");
+        ensure(isNotNull(codePoints), "code points cannot be null");
+        ensure(!codePoints.isEmpty(), "code points cannot be empty");
+
+        return new CodePointStringGenerator(threadLocalSourceOfRandomness(), length, codePoints);
+    }
+
+    public static TextGenerator regex(final String regex) {
+        ensure(isNotNull(regex), "regex cannot be null");
+
+        return new RegexGenerator(threadLocalSourceOfRandomness(), regex);
+    }
+
+    public static TextGenerator template(final String template) {
+        ensure(isNotNull(template), "template cannot be null");
+
+        return new TemplateGenerator(threadLocalSourceOfRandomness(), template);
+    }
+
     public static <T extends Enum<T>> Generator<T> value(final Class<T> classOfEnumT) {
         ensure(isNotNull(classOfEnumT), "enum class cannot be null");
 
@@ -349,26 +551,58 @@ public class RDG {
         ensure(isNotNull(iterableOfT), "values cannot be null");
         ensure(iterableOfT.iterator().hasNext(), "there must be at-least one value");
 
-        return new ValueGenerator<>(sourceOfRandomness(), iterableOfT);
+        return new ValueGenerator<>(threadLocalSourceOfRandomness(), iterableOfT);
+    }
+
+    @SafeVarargs
+    public static <T> Generator<T> oneOf(final Generator<? extends T>... generators) {
+        ensure(generators != null, "generators cannot be null");
+        ensure(generators.length > 0, "there must be at-least one generator");
+
+        final List<Weighted<? extends T>> weightedGenerators = new ArrayList<>(generators.length);
+        for (final Generator<? extends T> generator : generators) {
+            weightedGenerators.add(Weighted.weighted(1, generator));
+        }
+        return new WeightedGenerator<>(threadLocalSourceOfRandomness(), weightedGenerators);
+    }
+
+    @SafeVarargs
+    public static <T> Generator<T> frequency(final Weighted<? extends T>... weightedGenerators) {
+        ensure(weightedGenerators != null, "weighted generators cannot be null");
+        ensure(weightedGenerators.length > 0, "there must be at-least one weighted generator");
+
+        final List<Weighted<? extends T>> listOfWeightedGenerators = new ArrayList<>(weightedGenerators.length);
+        for (final Weighted<? extends T> weightedGenerator : weightedGenerators) {
+            ensure(isNotNull(weightedGenerator), "weighted generator cannot be null");
+            listOfWeightedGenerators.add(weightedGenerator);
+        }
+        return new WeightedGenerator<>(threadLocalSourceOfRandomness(), listOfWeightedGenerators);
     }
 
     public static Generator<URI> uri() {
         return URI_GENERATOR;
     }
 
-    public static Generator<String> domainSuffix() {
+    public static TextGenerator domainSuffix() {
         return SUFFIX_GENERATOR;
     }
 
-    public static Generator<String> emailAddress() {
+    public static TextGenerator domainSuffix(final DomainSuffixes suffixes) {
+        ensure(isNotNull(suffixes), "domain suffixes cannot be null");
+        ensure(!suffixes.isEmpty(), "domain suffixes cannot be empty");
+
+        return new SuffixGenerator(suffixes);
+    }
+
+    public static TextGenerator emailAddress() {
         return EMAIL_ADDRESS_GENERATOR;
     }
 
-    public static Generator<String> domain() {
+    public static TextGenerator domain() {
         return DOMAIN_GENERATOR;
     }
 
-    public static Generator<String> domain(Range<Integer> range) {
+    public static TextGenerator domain(Range<Integer> range) {
         return new DomainGenerator(range);
     }
 
@@ -385,7 +619,24 @@ public class RDG {
         ensure(isNotNull(generatorOfT), "generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
 
-        return new ListGenerator<>(sourceOfRandomness(), generatorOfT, sizeRange);
+        return new ListGenerator<>(threadLocalSourceOfRandomness(), generatorOfT, sizeRange);
+    }
+
+    public static <T> Generator<List<T>> list(final Generator<? extends T> generatorOfT,
+                                              final Range<Integer> sizeRange,
+                                              final CollectionOptions options) {
+        ensure(isNotNull(generatorOfT), "generator cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(isNotNull(options), "collection options cannot be null");
+
+        return new ListGenerator<>(threadLocalSourceOfRandomness(), generatorOfT, sizeRange, options);
+    }
+
+    public static <T> LazyList<T> lazyList(final Generator<? extends T> generatorOfT, final long size) {
+        ensure(isNotNull(generatorOfT), "generator cannot be null");
+        ensure(isNotNegative(size), "size cannot be negative");
+
+        return new LazyList<>(threadLocalSourceOfRandomness(), generatorOfT, size);
     }
 
     public static <T> Generator<T[]> array(final Class<? extends T> classOfT,
@@ -406,7 +657,19 @@ public class RDG {
         ensure(isNotNull(generatorOfT), "generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
 
-        return new ArrayGenerator<>(sourceOfRandomness(), classOfT, generatorOfT, sizeRange);
+        return new ArrayGenerator<>(threadLocalSourceOfRandomness(), classOfT, generatorOfT, sizeRange);
+    }
+
+    public static <T> Generator<T[]> array(final Class<? extends T> classOfT,
+                                           final Generator<? extends T> generatorOfT,
+                                           final Range<Integer> sizeRange,
+                                           final int maximumSize) {
+        ensure(isNotNull(classOfT), "type of array elements cannot be null");
+        ensure(isNotNull(generatorOfT), "generator cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(maximumSize >= 0, "maximum size cannot be negative");
+
+        return new ArrayGenerator<>(threadLocalSourceOfRandomness(), classOfT, generatorOfT, sizeRange, maximumSize);
     }
 
     public static <T> Generator<Set<T>> set(final Generator<? extends T> generatorOfT) {
@@ -422,7 +685,17 @@ public class RDG {
         ensure(isNotNull(generatorOfT), "generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
 
-        return new SetGenerator<>(sourceOfRandomness(), generatorOfT, sizeRange);
+        return new SetGenerator<>(threadLocalSourceOfRandomness(), generatorOfT, sizeRange);
+    }
+
+    public static <T> Generator<Set<T>> set(final Generator<? extends T> generatorOfT,
+                                            final Range<Integer> sizeRange,
+                                            final CollectionOptions options) {
+        ensure(isNotNull(generatorOfT), "generator cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(isNotNull(options), "collection options cannot be null");
+
+        return new SetGenerator<>(threadLocalSourceOfRandomness(), generatorOfT, sizeRange, options);
     }
 
     public static <K, V> Generator<Map<K, V>> map(final Generator<? extends K> generatorOfK,
@@ -443,18 +716,30 @@ public class RDG {
         ensure(isNotNull(generatorOfV), "value generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
 
-        return new MapGenerator<>(sourceOfRandomness(), generatorOfK, generatorOfV, sizeRange);
+        return new MapGenerator<>(threadLocalSourceOfRandomness(), generatorOfK, generatorOfV, sizeRange);
+    }
+
+    public static <K, V> Generator<Map<K, V>> map(final Generator<? extends K> generatorOfK,
+                                                  final Generator<? extends V> generatorOfV,
+                                                  final Range<Integer> sizeRange,
+                                                  final CollectionOptions options) {
+        ensure(isNotNull(generatorOfK), "key generator cannot be null");
+        ensure(isNotNull(generatorOfV), "value generator cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(isNotNull(options), "collection options cannot be null");
+
+        return new MapGenerator<>(threadLocalSourceOfRandomness(), generatorOfK, generatorOfV, sizeRange, options);
     }
 
-    public static Generator<String> niNumber() {
+    public static TextGenerator niNumber() {
         return NI_NUMBER_GENERATOR;
     }
 
-    public static Generator<String> postcode() {
+    public static TextGenerator postcode() {
         return POSTCODE_GENERATOR;
     }
 
-    public static Generator<Boolean> percentageChanceOf(int chance) {
+    public static BooleanGenerator percentageChanceOf(int chance) {
         return new PercentageChanceGenerator(chance);
     }
 
@@ -470,4 +755,8 @@ public class RDG {
         return ISO_3_COUNTRY_GENERATOR;
     }
 
+    private static void ensureRoomForStrictlyIncreasing(final Range<Integer> size, final long width, final SortOrder order) {
+        ensure(order == SortOrder.NON_DECREASING || size.upperBound() == 0 || Long.compareUnsigned(size.upperBound() - 1L, width) <= 0,
+                format("a range of %s values cannot hold %s strictly increasing values", Long.toUnsignedString(width + 1), size.upperBound()));
+    }
 }
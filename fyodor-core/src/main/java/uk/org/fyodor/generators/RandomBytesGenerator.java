@@ -0,0 +1,58 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.nio.ByteBuffer;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+final class RandomBytesGenerator implements PayloadGenerator {
+
+    private final RandomValues randomValues;
+    private final IntGenerator sizeGenerator;
+
+    RandomBytesGenerator(final RandomValues randomValues, final IntGenerator sizeGenerator) {
+        this.randomValues = randomValues;
+        this.sizeGenerator = sizeGenerator;
+    }
+
+    @Override
+    public byte[] next() {
+        final byte[] bytes = new byte[nextSize()];
+        randomValues.fillBytes(bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    @Override
+    public int next(final ByteBuffer buffer) {
+        final int length = Math.min(nextSize(), buffer.remaining());
+        randomValues.fillBytes(buffer, length);
+        return length;
+    }
+
+    @Override
+    public int next(final byte[] bytes, final int offset, final int length) {
+        final int written = Math.min(nextSize(), length);
+        randomValues.fillBytes(bytes, offset, written);
+        return written;
+    }
+
+    @Override
+    public int fill(final ByteBuffer buffer) {
+        final int length = buffer.remaining();
+        randomValues.fillBytes(buffer, length);
+        return length;
+    }
+
+    @Override
+    public int fill(final byte[] bytes, final int offset, final int length) {
+        randomValues.fillBytes(bytes, offset, length);
+        return length;
+    }
+
+    private int nextSize() {
+        final int size = sizeGenerator.nextInt();
+        ensure(size >= 0, "payload size cannot be negative");
+        return size;
+    }
+}
@@ -0,0 +1,17 @@
+package uk.org.fyodor.generators;
+
+/**
+ * The ordering of values produced by the sorted array and list generators.
+ */
+public enum SortOrder {
+
+    /**
+     * Each value is greater than or equal to the one before it, so values may repeat.
+     */
+    NON_DECREASING,
+
+    /**
+     * Each value is strictly greater than the one before it, so every value is distinct.
+     */
+    STRICTLY_INCREASING
+}
@@ -0,0 +1,298 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static java.lang.String.format;
+
+/*
+Sorted samples are produced directly in linear time rather than by sorting. Non-decreasing samples are the uniform
+order statistics, built from exponential spacings: the running sums of n + 1 standard exponential variables, divided by
+their total, are distributed exactly as n sorted uniform values on [0, 1), and are scaled onto the range. Strictly
+increasing integers are a uniform subset of the range: when the range is at most four times the sample it is walked
+once with selection sampling, which emits values in order, otherwise distinct values are drawn by rejection against an
+open addressed set and bucket sorted, which is linear in expectation because the values are uniform.
+ */
+final class SortedArrayGenerator {
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final int MAX_STRICTLY_INCREASING_ATTEMPTS = 100;
+
+    private SortedArrayGenerator() {
+    }
+
+    static <T> List<T> toList(final long[] values, final LongFunction<? extends T> mapper) {
+        final List<T> list = new ArrayList<>(values.length);
+        for (final long value : values) {
+            list.add(mapper.apply(value));
+        }
+        return list;
+    }
+
+    static final class OfInts extends PrimitiveArrayGenerator<int[]> {
+        private final int lower;
+        private final int upper;
+        private final SortOrder order;
+
+        OfInts(final RandomValues randomValues,
+               final Range<Integer> sizeRange,
+               final Range<Integer> valueRange,
+               final SortOrder order) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+            this.order = order;
+        }
+
+        @Override
+        int[] generate(final int size) {
+            final int[] ints = new int[size];
+            if (order == SortOrder.STRICTLY_INCREASING) {
+                final long[] longs = strictlyIncreasing(randomValues, size, lower, upper);
+                for (int i = 0; i < size; i++) {
+                    ints[i] = (int) longs[i];
+                }
+            } else {
+                final double[] fractions = uniformOrderStatistics(randomValues, size);
+                final long width = (long) upper - lower;
+                for (int i = 0; i < size; i++) {
+                    ints[i] = (int) scale(fractions[i], lower, width);
+                }
+            }
+            return ints;
+        }
+    }
+
+    static final class OfLongs extends PrimitiveArrayGenerator<long[]> {
+        private final long lower;
+        private final long upper;
+        private final SortOrder order;
+
+        OfLongs(final RandomValues randomValues,
+                final Range<Integer> sizeRange,
+                final Range<Long> valueRange,
+                final SortOrder order) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+            this.order = order;
+        }
+
+        @Override
+        long[] generate(final int size) {
+            if (order == SortOrder.STRICTLY_INCREASING) {
+                return strictlyIncreasing(randomValues, size, lower, upper);
+            }
+
+            final long[] longs = new long[size];
+            final double[] fractions = uniformOrderStatistics(randomValues, size);
+            final long width = upper - lower;
+            for (int i = 0; i < size; i++) {
+                longs[i] = scale(fractions[i], lower, width);
+            }
+            return longs;
+        }
+    }
+
+    static final class OfDoubles extends PrimitiveArrayGenerator<double[]> {
+        private final double lower;
+        private final double upper;
+        private final SortOrder order;
+
+        OfDoubles(final RandomValues randomValues,
+                  final Range<Integer> sizeRange,
+                  final Range<Double> valueRange,
+                  final SortOrder order) {
+            super(randomValues, sizeRange);
+            this.lower = valueRange.lowerBound();
+            this.upper = valueRange.upperBound();
+            this.order = order;
+        }
+
+        /*
+        Halving the bounds before taking their difference keeps the scaling finite across the whole double range, and
+        each step is monotonic in the fraction so the order statistics stay sorted after rounding. Equal neighbours are
+        vanishingly rare in any range with room for the sample, so a strictly increasing sample is redrawn when one
+        turns up.
+         */
+        @Override
+        double[] generate(final int size) {
+            final double half = upper * 0.5 - lower * 0.5;
+            final double ceiling = lower < upper ? Math.nextDown(upper) : upper;
+            for (int attempt = 0; attempt < MAX_STRICTLY_INCREASING_ATTEMPTS; attempt++) {
+                final double[] doubles = uniformOrderStatistics(randomValues, size);
+                boolean increasing = true;
+                for (int i = 0; i < size; i++) {
+                    doubles[i] = Math.min(ceiling, (lower + doubles[i] * half) + doubles[i] * half);
+                    increasing &= i == 0 || doubles[i] > doubles[i - 1];
+                }
+                if (order == SortOrder.NON_DECREASING || increasing) {
+                    return doubles;
+                }
+            }
+            throw new IllegalStateException(format(
+                    "unable to generate %s strictly increasing doubles between %s and %s after %s attempts",
+                    size, lower, upper, MAX_STRICTLY_INCREASING_ATTEMPTS));
+        }
+    }
+
+    private static double[] uniformOrderStatistics(final RandomValues randomValues, final int size) {
+        final double[] fractions = new double[size];
+        randomValues.fillDoubles(fractions, 0, 1);
+
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum -= Math.log1p(-fractions[i]);
+            fractions[i] = sum;
+        }
+        final double total = sum - Math.log1p(-randomValues.randomDouble(0, 1));
+        if (total > 0) {
+            for (int i = 0; i < size; i++) {
+                fractions[i] /= total;
+            }
+        }
+        return fractions;
+    }
+
+    /*
+    Widths are unsigned so that the full range of longs, whose size does not fit in a long, is still handled.
+     */
+    private static long scale(final double fraction, final long lower, final long width) {
+        final double scaled = fraction * (unsignedToDouble(width) + 1.0);
+        final long offset = scaled >= 0x1p63 ? (long) (scaled - 0x1p63) + Long.MIN_VALUE : (long) scaled;
+        return lower + (Long.compareUnsigned(offset, width) > 0 ? width : offset);
+    }
+
+    private static long[] strictlyIncreasing(final RandomValues randomValues, final int size, final long lower, final long upper) {
+        final long width = upper - lower;
+        if (Long.compareUnsigned(width, 4L * size) < 0) {
+            return selectionSample(randomValues, size, lower, width + 1);
+        }
+        return rejectionSample(randomValues, size, lower, upper);
+    }
+
+    private static long[] selectionSample(final RandomValues randomValues,
+                                          final int size,
+                                          final long lower,
+                                          final long count) {
+        if (size > count) {
+            throw new IllegalStateException(format(
+                    "unable to generate %s strictly increasing values from a range of only %s values", size, count));
+        }
+
+        final long[] values = new long[size];
+        final double[] uniforms = new double[(int) Math.min(CHUNK_SIZE, count)];
+        int u = uniforms.length;
+        int selected = 0;
+        for (long t = 0; selected < size; t++) {
+            if (u == uniforms.length) {
+                randomValues.fillDoubles(uniforms, 0, 1);
+                u = 0;
+            }
+            final long remaining = count - t;
+            final int needed = size - selected;
+            if (remaining <= needed || remaining * uniforms[u++] < needed) {
+                values[selected++] = lower + t;
+            }
+        }
+        return values;
+    }
+
+    private static long[] rejectionSample(final RandomValues randomValues,
+                                          final int size,
+                                          final long lower,
+                                          final long upper) {
+        final long[] values = new long[size];
+        final LongSet seen = new LongSet(size);
+        final long[] draws = new long[Math.min(CHUNK_SIZE, Math.max(1, size))];
+        int d = draws.length;
+        for (int i = 0; i < size; ) {
+            if (d == draws.length) {
+                randomValues.fillLongs(draws, lower, upper);
+                d = 0;
+            }
+            final long value = draws[d++];
+            if (seen.add(value)) {
+                values[i++] = value;
+            }
+        }
+        return bucketSort(values, lower, upper - lower);
+    }
+
+    /*
+    Each value goes to the bucket its position in the range points at, and the buckets are laid out in order by a
+    counting pass. Bucket order agrees with value order, so a final insertion sort only moves values within their own
+    bucket, which holds one value on average.
+     */
+    private static long[] bucketSort(final long[] values, final long lower, final long width) {
+        final int size = values.length;
+        final double bucketsPerValue = size / (unsignedToDouble(width) + 1.0);
+        final int[] buckets = new int[size];
+        final int[] starts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = (int) Math.min(size - 1, unsignedToDouble(values[i] - lower) * bucketsPerValue);
+            starts[buckets[i] + 1]++;
+        }
+        for (int b = 0; b < size; b++) {
+            starts[b + 1] += starts[b];
+        }
+
+        final long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[starts[buckets[i]]++] = values[i];
+        }
+        for (int i = 1; i < size; i++) {
+            final long value = sorted[i];
+            int j = i - 1;
+            while (j >= 0 && sorted[j] > value) {
+                sorted[j + 1] = sorted[j];
+                j--;
+            }
+            sorted[j + 1] = value;
+        }
+        return sorted;
+    }
+
+    private static double unsignedToDouble(final long value) {
+        return value >= 0 ? value : (value >>> 1) * 2.0;
+    }
+
+    private static final class LongSet {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long[] table;
+        private final int shift;
+        private boolean containsEmpty;
+
+        private LongSet(final int expectedSize) {
+            final int capacity = Math.min(1 << 30, Integer.highestOneBit(Math.max(2, expectedSize)) << 2);
+            this.table = new long[capacity];
+            this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+            Arrays.fill(table, EMPTY);
+        }
+
+        private boolean add(final long value) {
+            if (value == EMPTY) {
+                final boolean added = !containsEmpty;
+                containsEmpty = true;
+                return added;
+            }
+
+            final int mask = table.length - 1;
+            int slot = (int) ((value * 0x9E3779B97F4A7C15L) >>> shift);
+            while (table[slot] != EMPTY) {
+                if (table[slot] == value) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+            return true;
+        }
+    }
+}
@@ -4,15 +4,20 @@ import uk.org.fyodor.generators.characters.CharacterFilter;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
 import uk.org.fyodor.generators.characters.CharacterSetGenerator;
 import uk.org.fyodor.generators.characters.CharacterSetRange;
+import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
 import java.util.Arrays;
 
-class StringGenerator implements Generator<String> {
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
 
-    private final Generator<Integer> stringLengthGenerator;
-    private final Generator<Integer> charSetIndexGenerator;
+class StringGenerator implements TextGenerator {
+
+    private final RandomValues randomValues;
+    private final IntGenerator stringLengthGenerator;
     private final char[] charSet;
+    private final CharacterSampler characterSampler;
 
     StringGenerator(Integer length) {
         this(length, new CharacterSetGenerator(CharacterSetFilter.AllExceptDoubleQuotes, CharacterSetRange.defaultLatinBasic));
@@ -69,19 +74,22 @@ class StringGenerator implements Generator<String> {
     }
 
     StringGenerator(Range<Integer> range, char[] charset) {
+        ensure(charset.length > 0, "character set cannot be empty");
+
+        this.randomValues = threadLocalSourceOfRandomness();
         this.charSet = charset;
+        this.characterSampler = new CharacterSampler(charset);
         this.stringLengthGenerator = RDG.integer(range);
-        this.charSetIndexGenerator = RDG.integer(charset.length - 1);
     }
 
     @Override
     public String next() {
-        Integer length = stringLengthGenerator.next();
-        char[] ret = new char[length];
-        for (int i = 0; i < length; i++) {
-            ret[i] = charSet[charSetIndexGenerator.next()];
-        }
-        return String.valueOf(ret);
+        return characterSampler.randomString(randomValues, stringLengthGenerator.nextInt());
+    }
+
+    @Override
+    public void appendTo(final StringBuilder builder) {
+        characterSampler.appendTo(randomValues, stringLengthGenerator.nextInt(), builder);
     }
 
     public char[] getCharSet() {
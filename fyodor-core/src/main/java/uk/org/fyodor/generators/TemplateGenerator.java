@@ -0,0 +1,184 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+Templates are literal text with {name}, {name:count} or {name:min-max} expressions, where name is one of the built in
+character classes, and {oneOf:chars} or {oneOf:chars:count} picks from the given characters. Braces are escaped by
+doubling them, and within the characters of a oneOf so are colons, so {oneOf:a}}::b} picks from "a}:b". The first single
+colon starts the count, after which the next brace closes the expression, so a oneOf followed by a literal brace needs an
+explicit count, as in {oneOf:ab:1}}}. A template is compiled once into a flat array of fixed width instructions
+(opcode, operand, minimum count, maximum count) which is executed straight into the caller's builder.
+ */
+final class TemplateGenerator implements TextGenerator {
+
+    private static final int LITERAL = 0;
+    private static final int CHARACTERS = 1;
+    private static final int INSTRUCTION_WIDTH = 4;
+    private static final String ONE_OF = "oneOf:";
+
+    private static final Map<String, String> characterClasses = new HashMap<>();
+
+    static {
+        characterClasses.put("letter", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+        characterClasses.put("upper", "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        characterClasses.put("lower", "abcdefghijklmnopqrstuvwxyz");
+        characterClasses.put("digit", "0123456789");
+        characterClasses.put("alnum", "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+        characterClasses.put("hex", "0123456789abcdef");
+    }
+
+    private final RandomValues randomValues;
+    private final int[] instructions;
+    private final String[] literals;
+    private final CharacterSampler[] samplers;
+
+    TemplateGenerator(final RandomValues randomValues, final String template) {
+        this.randomValues = randomValues;
+
+        final List<Integer> instructions = new ArrayList<>();
+        final List<String> literals = new ArrayList<>();
+        final List<CharacterSampler> samplers = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < template.length()) {
+            final char c = template.charAt(i);
+            if ((c == '{' || c == '}') && i + 1 < template.length() && template.charAt(i + 1) == c) {
+                literal.append(c);
+                i += 2;
+            } else if (c == '}') {
+                throw new IllegalArgumentException(format("unexpected '}' at index %s in template \"%s\"", i, template));
+            } else if (c == '{') {
+                final int end = expressionEnd(template, i);
+                ensure(end > 0, format("unterminated expression at index %s in template \"%s\"", i, template));
+
+                if (literal.length() > 0) {
+                    addInstruction(instructions, LITERAL, literals.size(), 0, 0);
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                }
+                compileExpression(template.substring(i + 1, end), template, instructions, samplers);
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            addInstruction(instructions, LITERAL, literals.size(), 0, 0);
+            literals.add(literal.toString());
+        }
+
+        this.instructions = instructions.stream().mapToInt(Integer::intValue).toArray();
+        this.literals = literals.toArray(new String[0]);
+        this.samplers = samplers.toArray(new CharacterSampler[0]);
+    }
+
+    @Override
+    public void appendTo(final StringBuilder builder) {
+        for (int i = 0; i < instructions.length; i += INSTRUCTION_WIDTH) {
+            if (instructions[i] == LITERAL) {
+                builder.append(literals[instructions[i + 1]]);
+            } else {
+                final int min = instructions[i + 2];
+                final int max = instructions[i + 3];
+                final int count = min == max ? min : randomValues.randomInteger(min, max);
+                samplers[instructions[i + 1]].appendTo(randomValues, count, builder);
+            }
+        }
+    }
+
+    private static void compileExpression(final String expression,
+                                          final String template,
+                                          final List<Integer> instructions,
+                                          final List<CharacterSampler> samplers) {
+        final int nameEnd = expression.indexOf(':');
+        final String name = nameEnd < 0 ? expression : expression.substring(0, nameEnd);
+        String argument = nameEnd < 0 ? null : expression.substring(nameEnd + 1);
+
+        final String characters;
+        if ("oneOf".equals(name)) {
+            ensure(argument != null && !argument.isEmpty(), format("oneOf requires characters in template \"%s\"", template));
+
+            final StringBuilder oneOf = new StringBuilder();
+            String count = null;
+            for (int i = 0; i < argument.length(); i++) {
+                final char c = argument.charAt(i);
+                if (c == ':' && (i + 1 == argument.length() || argument.charAt(i + 1) != ':')) {
+                    count = argument.substring(i + 1);
+                    break;
+                }
+                oneOf.append(c);
+                i += c == ':' || c == '}' ? 1 : 0;
+            }
+            characters = oneOf.toString();
+            argument = count;
+            ensure(!characters.isEmpty(), format("oneOf requires characters in template \"%s\"", template));
+        } else {
+            characters = characterClasses.get(name);
+            ensure(characters != null, format("unknown expression {%s} in template \"%s\"", expression, template));
+        }
+
+        final int[] counts = counts(argument, expression, template);
+        addInstruction(instructions, CHARACTERS, samplers.size(), counts[0], counts[1]);
+        samplers.add(new CharacterSampler(characters.toCharArray()));
+    }
+
+    /*
+    Expressions end at the first closing brace, except that the characters of a oneOf may contain doubled braces and
+    colons, so its end is only searched for once the count, if any, has begun.
+     */
+    private static int expressionEnd(final String template, final int start) {
+        if (!template.startsWith(ONE_OF, start + 1)) {
+            return template.indexOf('}', start);
+        }
+
+        for (int i = start + 1 + ONE_OF.length(); i < template.length(); i++) {
+            final char c = template.charAt(i);
+            if (c == '}' || c == ':') {
+                if (i + 1 < template.length() && template.charAt(i + 1) == c) {
+                    i++;
+                } else {
+                    return template.indexOf('}', i);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int[] counts(final String argument, final String expression, final String template) {
+        if (argument == null) {
+            return new int[]{1, 1};
+        }
+
+        try {
+            final int separator = argument.indexOf('-');
+            final int min = Integer.parseInt(separator < 0 ? argument : argument.substring(0, separator));
+            final int max = separator < 0 ? min : Integer.parseInt(argument.substring(separator + 1));
+            ensure(min >= 0 && min <= max, format("invalid count in expression {%s} in template \"%s\"", expression, template));
+            return new int[]{min, max};
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(format("invalid count in expression {%s} in template \"%s\"", expression, template), e);
+        }
+    }
+
+    private static void addInstruction(final List<Integer> instructions,
+                                       final int opcode,
+                                       final int operand,
+                                       final int min,
+                                       final int max) {
+        instructions.add(opcode);
+        instructions.add(operand);
+        instructions.add(min);
+        instructions.add(max);
+    }
+}
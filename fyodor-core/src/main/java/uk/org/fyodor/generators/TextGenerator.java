@@ -0,0 +1,35 @@
+package uk.org.fyodor.generators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A {@link Generator} of text which can also append each value straight onto a caller's {@link StringBuilder} or
+ * {@link Appendable}, so composite values and bulk output can share one reusable buffer.
+ */
+public interface TextGenerator extends Generator<String> {
+
+    void appendTo(StringBuilder builder);
+
+    default void appendTo(final Appendable appendable) {
+        if (appendable instanceof StringBuilder) {
+            appendTo((StringBuilder) appendable);
+            return;
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        try {
+            appendable.append(builder);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    default String next() {
+        final StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.function.Consumer;
+
+final class UniformBooleanGenerator implements BooleanGenerator, EnumerableGenerator<Boolean> {
+
+    private final RandomValues randomValues;
+
+    UniformBooleanGenerator(final RandomValues randomValues) {
+        this.randomValues = randomValues;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return randomValues.randomBoolean();
+    }
+
+    @Override
+    public long domainSize() {
+        return 2;
+    }
+
+    @Override
+    public Boolean valueAt(final long index) {
+        return index == 1;
+    }
+
+    @Override
+    public void next(final int count, final Consumer<? super Boolean> consumer) {
+        ChunkedDraws.draw(count, boolean[]::new, randomValues::fillBooleans, chunk -> {
+            for (final boolean value : chunk) {
+                consumer.accept(value);
+            }
+        });
+    }
+}
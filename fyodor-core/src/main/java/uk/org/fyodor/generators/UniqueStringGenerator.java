@@ -0,0 +1,87 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.FeistelPermutation;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/*
+Every string of the requested lengths over the character set is numbered (shorter lengths first, then as base-k
+digits), and a counter is passed through a keyed Feistel permutation of that numbering. The permutation is a
+bijection, so successive counters give distinct strings in a scrambled order with no memory of what has been produced.
+At most 2^62 strings are numbered; beyond that the leading positions are enumerated and the rest are random filler,
+which cannot introduce collisions because strings differing in their enumerated positions are already different.
+ */
+final class UniqueStringGenerator implements TextGenerator {
+
+    private static final long MAX_SPACE = 1L << 62;
+
+    private final RandomValues randomValues;
+    private final char[] charSet;
+    private final CharacterSampler fillerSampler;
+    private final int minLength;
+    private final long[] countsPerLength;
+    private final int[] enumeratedPositionsPerLength;
+    private final long space;
+    private final FeistelPermutation permutation;
+    private final AtomicLong counter = new AtomicLong();
+
+    UniqueStringGenerator(final RandomValues randomValues, final Range<Integer> lengths, final char[] charSet) {
+        this.randomValues = randomValues;
+        this.charSet = charSet;
+        this.fillerSampler = new CharacterSampler(charSet);
+        this.minLength = lengths.lowerBound();
+
+        final int numberOfLengths = lengths.upperBound() - lengths.lowerBound() + 1;
+        this.countsPerLength = new long[numberOfLengths];
+        this.enumeratedPositionsPerLength = new int[numberOfLengths];
+
+        long space = 0;
+        for (int i = 0; i < numberOfLengths && space < MAX_SPACE; i++) {
+            long count = 1;
+            int positions = 0;
+            while (positions < minLength + i && count <= (MAX_SPACE - space) / charSet.length) {
+                count *= charSet.length;
+                positions++;
+            }
+            countsPerLength[i] = count;
+            enumeratedPositionsPerLength[i] = positions;
+            space += count;
+        }
+        this.space = space;
+        this.permutation = new FeistelPermutation(randomValues, space);
+    }
+
+    @Override
+    public void appendTo(final StringBuilder builder) {
+        final long count = counter.getAndIncrement();
+        if (count >= space) {
+            counter.set(space);
+            throw new IllegalStateException(format("all %s unique strings have already been generated", space));
+        }
+
+        long index = permutation.permute(count);
+        int lengthIndex = 0;
+        while (index >= countsPerLength[lengthIndex]) {
+            index -= countsPerLength[lengthIndex++];
+        }
+
+        final int length = minLength + lengthIndex;
+        final int enumeratedPositions = enumeratedPositionsPerLength[lengthIndex];
+        builder.ensureCapacity(builder.length() + length);
+        for (int i = 0; i < enumeratedPositions; i++) {
+            builder.append(charSet[(int) (index % charSet.length)]);
+            index /= charSet.length;
+        }
+        if (length > enumeratedPositions) {
+            fillerSampler.appendTo(randomValues, length - enumeratedPositions, builder);
+        }
+    }
+
+    long space() {
+        return space;
+    }
+}
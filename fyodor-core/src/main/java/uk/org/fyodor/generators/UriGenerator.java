@@ -1,22 +1,18 @@
 package uk.org.fyodor.generators;
 
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
 
 public class UriGenerator implements Generator<URI> {
 
     private final Generator<String> protocolGenerator = RDG.value("http://", "https://", "http://www.", "https://www.");
-    private final Generator<String> domainGenerator = RDG.domain();
-    private final Generator<String> suffixGenerator = RDG.domainSuffix();
+    private final TextGenerator domainGenerator = RDG.domain();
+    private final TextGenerator suffixGenerator = RDG.domainSuffix();
 
     public URI next() {
-        try {
-            return URI.create(protocolGenerator.next() +
-                    domainGenerator.next() +
-                    "." +
-                    new String(suffixGenerator.next().getBytes("UTF-8")));
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException("exception encoding URI", e);
-        }
+        final StringBuilder builder = new StringBuilder(64).append(protocolGenerator.next());
+        domainGenerator.appendTo(builder);
+        builder.append('.');
+        suffixGenerator.appendTo(builder);
+        return URI.create(builder.toString());
     }
 }
@@ -0,0 +1,144 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.generators.characters.CodePointSet;
+import uk.org.fyodor.random.RandomValues;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+Encodes code points straight into the destination as they are drawn, so text never exists as a String or char[].
+Indexes into the set of code points are cut from 64-bit random words as in CharacterSampler. A code point that would
+not fit in the space left ends the payload, so a filled region may have up to three unused bytes at its end. Rejected
+indexes never reach CodePointSet.codePointAt, so its range check never fails and the loop does not allocate.
+ */
+final class Utf8TextGenerator implements PayloadGenerator {
+
+    private static final int MAX_UTF8_WIDTH = 4;
+
+    private final RandomValues randomValues;
+    private final IntGenerator lengthGenerator;
+    private final CodePointSet codePoints;
+    private final int numberOfCodePoints;
+    private final int bitsPerIndex;
+    private final long indexMask;
+    private final int indexesPerWord;
+
+    Utf8TextGenerator(final RandomValues randomValues, final IntGenerator lengthGenerator, final CodePointSet codePoints) {
+        this.randomValues = randomValues;
+        this.lengthGenerator = lengthGenerator;
+        this.codePoints = codePoints;
+        this.numberOfCodePoints = codePoints.size();
+        this.bitsPerIndex = 32 - Integer.numberOfLeadingZeros(numberOfCodePoints - 1);
+        this.indexMask = (1L << bitsPerIndex) - 1;
+        this.indexesPerWord = bitsPerIndex == 0 ? Integer.MAX_VALUE : 64 / bitsPerIndex;
+    }
+
+    @Override
+    public byte[] next() {
+        final int length = nextLength();
+        final byte[] bytes = new byte[length * MAX_UTF8_WIDTH];
+        return Arrays.copyOf(bytes, encode(bytes, null, 0, bytes.length, length));
+    }
+
+    @Override
+    public int next(final ByteBuffer buffer) {
+        return encode(buffer, nextLength());
+    }
+
+    @Override
+    public int next(final byte[] bytes, final int offset, final int length) {
+        ensureWithin(bytes, offset, length);
+        return encode(bytes, null, offset, offset + length, nextLength());
+    }
+
+    @Override
+    public int fill(final ByteBuffer buffer) {
+        return encode(buffer, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int fill(final byte[] bytes, final int offset, final int length) {
+        ensureWithin(bytes, offset, length);
+        return encode(bytes, null, offset, offset + length, Integer.MAX_VALUE);
+    }
+
+    private int encode(final ByteBuffer buffer, final int maxCodePoints) {
+        final int written;
+        if (buffer.hasArray()) {
+            final int from = buffer.arrayOffset() + buffer.position();
+            written = encode(buffer.array(), null, from, from + buffer.remaining(), maxCodePoints);
+        } else {
+            written = encode(null, buffer, buffer.position(), buffer.limit(), maxCodePoints);
+        }
+        buffer.position(buffer.position() + written);
+        return written;
+    }
+
+    private int encode(final byte[] array, final ByteBuffer buffer, final int from, final int to, final int maxCodePoints) {
+        int position = from;
+        long word = 0;
+        int indexesLeft = 0;
+        for (int count = 0; count < maxCodePoints; ) {
+            if (indexesLeft == 0) {
+                word = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+                indexesLeft = indexesPerWord;
+            }
+            final int index = (int) (word & indexMask);
+            word >>>= bitsPerIndex;
+            indexesLeft--;
+            if (index >= numberOfCodePoints) {
+                continue;
+            }
+
+            final int codePoint = codePoints.codePointAt(index);
+            final int width = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (position + width > to) {
+                break;
+            }
+            switch (width) {
+                case 1:
+                    put(array, buffer, position, codePoint);
+                    break;
+                case 2:
+                    put(array, buffer, position, 0xC0 | (codePoint >>> 6));
+                    put(array, buffer, position + 1, 0x80 | (codePoint & 0x3F));
+                    break;
+                case 3:
+                    put(array, buffer, position, 0xE0 | (codePoint >>> 12));
+                    put(array, buffer, position + 1, 0x80 | ((codePoint >>> 6) & 0x3F));
+                    put(array, buffer, position + 2, 0x80 | (codePoint & 0x3F));
+                    break;
+                default:
+                    put(array, buffer, position, 0xF0 | (codePoint >>> 18));
+                    put(array, buffer, position + 1, 0x80 | ((codePoint >>> 12) & 0x3F));
+                    put(array, buffer, position + 2, 0x80 | ((codePoint >>> 6) & 0x3F));
+                    put(array, buffer, position + 3, 0x80 | (codePoint & 0x3F));
+            }
+            position += width;
+            count++;
+        }
+        return position - from;
+    }
+
+    private static void put(final byte[] array, final ByteBuffer buffer, final int position, final int b) {
+        if (array != null) {
+            array[position] = (byte) b;
+        } else {
+            buffer.put(position, (byte) b);
+        }
+    }
+
+    private int nextLength() {
+        final int length = lengthGenerator.nextInt();
+        ensure(length >= 0, "text length cannot be negative");
+        return length;
+    }
+
+    private static void ensureWithin(final byte[] bytes, final int offset, final int length) {
+        ensure(bytes != null, "the array of bytes cannot be null");
+        ensure(offset >= 0 && length >= 0 && offset + length <= bytes.length, "the region must be within the array of bytes");
+    }
+}
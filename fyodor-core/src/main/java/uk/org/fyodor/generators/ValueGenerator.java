@@ -3,12 +3,18 @@ package uk.org.fyodor.generators;
 import uk.org.fyodor.random.RandomValues;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
-final class ValueGenerator<T> implements Generator<T> {
+/*
+The values are only addressed by index when they are all distinct, since a repeated value is more likely than the
+others and sampling its distinct values by index would make it less so.
+ */
+final class ValueGenerator<T> implements EnumerableGenerator<T> {
 
     private final RandomValues randomValues;
     private final List<T> listOfTs;
+    private volatile Boolean distinct;
 
     ValueGenerator(final RandomValues randomValues, final Iterable<T> iterableOfTs) {
         this.randomValues = randomValues;
@@ -23,4 +29,23 @@ final class ValueGenerator<T> implements Generator<T> {
         final int index = randomValues.randomInteger(0, listOfTs.size() - 1);
         return listOfTs.get(index);
     }
+
+    @Override
+    public long domainSize() {
+        return isDistinct() ? listOfTs.size() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public T valueAt(final long index) {
+        return listOfTs.get((int) index);
+    }
+
+    private boolean isDistinct() {
+        Boolean distinct = this.distinct;
+        if (distinct == null) {
+            distinct = new HashSet<>(listOfTs).size() == listOfTs.size();
+            this.distinct = distinct;
+        }
+        return distinct;
+    }
 }
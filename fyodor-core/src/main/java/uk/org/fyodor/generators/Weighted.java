@@ -0,0 +1,30 @@
+package uk.org.fyodor.generators;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+public final class Weighted<T> {
+
+    private final int weight;
+    private final Generator<? extends T> generatorOfT;
+
+    private Weighted(final int weight, final Generator<? extends T> generatorOfT) {
+        this.weight = weight;
+        this.generatorOfT = generatorOfT;
+    }
+
+    public static <T> Weighted<T> weighted(final int weight, final Generator<? extends T> generatorOfT) {
+        ensure(weight > 0, "weight must be positive");
+        ensure(isNotNull(generatorOfT), "generator cannot be null");
+
+        return new Weighted<>(weight, generatorOfT);
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public Generator<? extends T> generator() {
+        return generatorOfT;
+    }
+}
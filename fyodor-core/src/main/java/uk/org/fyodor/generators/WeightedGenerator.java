@@ -0,0 +1,47 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+Picks one of several generators with probability proportional to its weight, by binary searching a random point in the
+cumulative weights, and then generates a value from it.
+ */
+final class WeightedGenerator<T> implements Generator<T> {
+
+    private final RandomValues randomValues;
+    private final List<Generator<? extends T>> generators;
+    private final long[] cumulativeWeights;
+
+    WeightedGenerator(final RandomValues randomValues, final List<Weighted<? extends T>> weightedGenerators) {
+        this.randomValues = randomValues;
+        this.generators = new ArrayList<>(weightedGenerators.size());
+        this.cumulativeWeights = new long[weightedGenerators.size()];
+
+        long totalWeight = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            final Weighted<? extends T> weighted = weightedGenerators.get(i);
+            totalWeight += weighted.weight();
+            generators.add(weighted.generator());
+            cumulativeWeights[i] = totalWeight;
+        }
+    }
+
+    @Override
+    public T next() {
+        return generators.get(pick()).next();
+    }
+
+    private int pick() {
+        if (generators.size() == 1) {
+            return 0;
+        }
+
+        final long point = randomValues.randomLong(0, cumulativeWeights[cumulativeWeights.length - 1] - 1);
+        final int index = Arrays.binarySearch(cumulativeWeights, point);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+}
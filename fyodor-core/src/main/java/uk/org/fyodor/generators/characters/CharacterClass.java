@@ -0,0 +1,218 @@
+package uk.org.fyodor.generators.characters;
+
+import uk.org.fyodor.range.Range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+/*
+An immutable set of characters backed by a bitset, compiled once from a filter and a set of ranges. Compiled classes are
+cached by filter and ranges, so the filter is only consulted the first time a combination is used. Filters which do not
+override equals are cached by identity, and the cache stops growing once it holds MAX_CACHED_CLASSES entries so that
+filters created on the fly cannot exhaust memory.
+ */
+public final class CharacterClass implements CharacterFilter {
+
+    private static final int MAX_CACHED_CLASSES = 1024;
+    private static final Map<Key, CharacterClass> compiledClasses = new ConcurrentHashMap<>();
+
+    private final long[] words;
+    private final char[] chars;
+
+    private CharacterClass(final long[] words) {
+        this.words = trim(words);
+        this.chars = toChars(this.words);
+    }
+
+    @SafeVarargs
+    public static CharacterClass of(final CharacterFilter filter, final Range<Integer>... ranges) {
+        ensure(ranges != null, "character ranges cannot be null");
+
+        final List<Range<Integer>> listOfRanges = new ArrayList<>(ranges.length);
+        for (final Range<Integer> range : ranges) {
+            listOfRanges.add(range);
+        }
+        return of(filter, listOfRanges);
+    }
+
+    public static CharacterClass of(final CharacterFilter filter, final CharacterSetRange... characterSetRanges) {
+        ensure(isNotNull(characterSetRanges), "character set ranges cannot be null");
+
+        final List<Range<Integer>> ranges = new ArrayList<>(characterSetRanges.length);
+        for (final CharacterSetRange characterSetRange : characterSetRanges) {
+            ranges.add(characterSetRange.getRange());
+        }
+        return of(filter, ranges);
+    }
+
+    private static CharacterClass of(final CharacterFilter filter, final List<Range<Integer>> ranges) {
+        ensure(isNotNull(filter), "character filter cannot be null");
+
+        if (filter instanceof CharacterClass && ranges.isEmpty()) {
+            return (CharacterClass) filter;
+        }
+
+        final Key key = new Key(filter, ranges);
+        final CharacterClass cached = compiledClasses.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final CharacterClass compiled = compile(filter, ranges);
+        if (compiledClasses.size() < MAX_CACHED_CLASSES) {
+            compiledClasses.putIfAbsent(key, compiled);
+        }
+        return compiled;
+    }
+
+    public static CharacterClass of(final String characters) {
+        ensure(isNotNull(characters), "characters cannot be null");
+
+        final long[] words = new long[1024];
+        for (int i = 0; i < characters.length(); i++) {
+            final char c = characters.charAt(i);
+            words[c >>> 6] |= 1L << c;
+        }
+        return new CharacterClass(words);
+    }
+
+    public CharacterClass union(final CharacterClass that) {
+        ensure(isNotNull(that), "character class cannot be null");
+
+        final long[] union = Arrays.copyOf(this.words, Math.max(this.words.length, that.words.length));
+        for (int i = 0; i < that.words.length; i++) {
+            union[i] |= that.words[i];
+        }
+        return new CharacterClass(union);
+    }
+
+    public CharacterClass intersection(final CharacterClass that) {
+        ensure(isNotNull(that), "character class cannot be null");
+
+        final long[] intersection = Arrays.copyOf(this.words, Math.min(this.words.length, that.words.length));
+        for (int i = 0; i < intersection.length; i++) {
+            intersection[i] &= that.words[i];
+        }
+        return new CharacterClass(intersection);
+    }
+
+    public CharacterClass difference(final CharacterClass that) {
+        ensure(isNotNull(that), "character class cannot be null");
+
+        final long[] difference = Arrays.copyOf(this.words, this.words.length);
+        for (int i = 0; i < Math.min(difference.length, that.words.length); i++) {
+            difference[i] &= ~that.words[i];
+        }
+        return new CharacterClass(difference);
+    }
+
+    public boolean contains(final char c) {
+        final int word = c >>> 6;
+        return word < words.length && (words[word] & (1L << c)) != 0;
+    }
+
+    @Override
+    public boolean includeCharacter(final char c) {
+        return contains(c);
+    }
+
+    public int size() {
+        return chars.length;
+    }
+
+    public boolean isEmpty() {
+        return chars.length == 0;
+    }
+
+    public char[] toCharArray() {
+        return Arrays.copyOf(chars, chars.length);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return Arrays.equals(words, ((CharacterClass) o).words);
+    }
+
+    @Override
+    public String toString() {
+        return "CharacterClass {" + new String(chars) + "}";
+    }
+
+    private static CharacterClass compile(final CharacterFilter filter, final List<Range<Integer>> ranges) {
+        final long[] words = new long[1024];
+        for (final Range<Integer> range : ranges) {
+            ensure(isNotNull(range), "character range cannot be null");
+
+            for (int i = range.lowerBound(); i <= range.upperBound(); i++) {
+                final char c = (char) i;
+                if (filter.includeCharacter(c)) {
+                    words[c >>> 6] |= 1L << c;
+                }
+            }
+        }
+        return new CharacterClass(words);
+    }
+
+    private static long[] trim(final long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return length == words.length ? words : Arrays.copyOf(words, length);
+    }
+
+    private static char[] toChars(final long[] words) {
+        int size = 0;
+        for (final long word : words) {
+            size += Long.bitCount(word);
+        }
+
+        final char[] chars = new char[size];
+        int j = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                chars[j++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+        return chars;
+    }
+
+    private static final class Key {
+
+        private final CharacterFilter filter;
+        private final List<Range<Integer>> ranges;
+
+        private Key(final CharacterFilter filter, final List<Range<Integer>> ranges) {
+            this.filter = filter;
+            this.ranges = ranges;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * filter.hashCode() + ranges.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Key that = (Key) o;
+            return filter.equals(that.filter) && ranges.equals(that.ranges);
+        }
+    }
+}
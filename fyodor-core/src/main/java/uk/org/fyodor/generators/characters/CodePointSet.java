@@ -0,0 +1,301 @@
+package uk.org.fyodor.generators.characters;
+
+import java.lang.Character.UnicodeBlock;
+import java.lang.Character.UnicodeScript;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static java.lang.String.format;
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+/*
+An immutable set of Unicode code points stored as sorted, disjoint intervals together with the number of code points
+before each interval, so the n-th code point is found by binary search over intervals instead of a scan over code points.
+
+Category, script and block tables are built from the running JDK's Unicode data by a single pass over all code points
+the first time each kind of table is used. Surrogate code points are never included, so every string built from a set
+is valid UTF-16.
+ */
+public final class CodePointSet {
+
+    private static final CodePointSet EMPTY = new CodePointSet(new int[0], new int[0]);
+    private static final CodePointSet SURROGATES = new CodePointSet(new int[]{Character.MIN_SURROGATE}, new int[]{Character.MAX_SURROGATE});
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] countsBefore;
+    private final int size;
+
+    private CodePointSet(final int[] starts, final int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        this.countsBefore = new int[starts.length];
+
+        int size = 0;
+        for (int i = 0; i < starts.length; i++) {
+            countsBefore[i] = size;
+            size += ends[i] - starts[i] + 1;
+        }
+        this.size = size;
+    }
+
+    public static CodePointSet range(final int from, final int to) {
+        ensure(Character.isValidCodePoint(from) && Character.isValidCodePoint(to), "range must only contain valid code points");
+        ensure(from <= to, format("range %s..%s is empty", from, to));
+
+        return new CodePointSet(new int[]{from}, new int[]{to}).difference(SURROGATES);
+    }
+
+    public static CodePointSet assigned() {
+        return Tables.ASSIGNED;
+    }
+
+    public static CodePointSet category(final int... generalCategories) {
+        ensure(isNotNull(generalCategories), "general categories cannot be null");
+
+        CodePointSet union = EMPTY;
+        for (final int generalCategory : generalCategories) {
+            ensure(generalCategory >= 0 && generalCategory < Tables.CATEGORIES.length && Tables.CATEGORIES[generalCategory] != null,
+                    format("%s is not a general category", generalCategory));
+            union = union.union(Tables.CATEGORIES[generalCategory]);
+        }
+        return union;
+    }
+
+    public static CodePointSet script(final UnicodeScript... scripts) {
+        ensure(isNotNull(scripts), "scripts cannot be null");
+
+        CodePointSet union = EMPTY;
+        for (final UnicodeScript script : scripts) {
+            ensure(isNotNull(script), "script cannot be null");
+            union = union.union(ScriptTables.SCRIPTS.getOrDefault(script, EMPTY));
+        }
+        return union;
+    }
+
+    public static CodePointSet block(final UnicodeBlock... blocks) {
+        ensure(isNotNull(blocks), "blocks cannot be null");
+
+        CodePointSet union = EMPTY;
+        for (final UnicodeBlock block : blocks) {
+            ensure(isNotNull(block), "block cannot be null");
+            union = union.union(BlockTables.BLOCKS.getOrDefault(block, EMPTY));
+        }
+        return union;
+    }
+
+    public CodePointSet union(final CodePointSet that) {
+        ensure(isNotNull(that), "code point set cannot be null");
+
+        final Builder builder = new Builder(this.starts.length + that.starts.length);
+        int i = 0;
+        int j = 0;
+        while (i < this.starts.length || j < that.starts.length) {
+            if (j == that.starts.length || (i < this.starts.length && this.starts[i] <= that.starts[j])) {
+                builder.add(this.starts[i], this.ends[i]);
+                i++;
+            } else {
+                builder.add(that.starts[j], that.ends[j]);
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    public CodePointSet intersection(final CodePointSet that) {
+        ensure(isNotNull(that), "code point set cannot be null");
+
+        final Builder builder = new Builder(Math.max(this.starts.length, that.starts.length));
+        int i = 0;
+        int j = 0;
+        while (i < this.starts.length && j < that.starts.length) {
+            final int start = Math.max(this.starts[i], that.starts[j]);
+            final int end = Math.min(this.ends[i], that.ends[j]);
+            if (start <= end) {
+                builder.add(start, end);
+            }
+            if (this.ends[i] < that.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    public CodePointSet difference(final CodePointSet that) {
+        ensure(isNotNull(that), "code point set cannot be null");
+
+        final Builder builder = new Builder(this.starts.length + that.starts.length);
+        int j = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            int start = this.starts[i];
+            final int end = this.ends[i];
+            while (j < that.starts.length && that.ends[j] < start) {
+                j++;
+            }
+            int k = j;
+            while (k < that.starts.length && that.starts[k] <= end && start <= end) {
+                if (that.starts[k] > start) {
+                    builder.add(start, that.starts[k] - 1);
+                }
+                start = Math.max(start, that.ends[k] + 1);
+                if (that.ends[k] > end) {
+                    break;
+                }
+                k++;
+            }
+            if (start <= end) {
+                builder.add(start, end);
+            }
+        }
+        return builder.build();
+    }
+
+    public boolean contains(final int codePoint) {
+        final int interval = Arrays.binarySearch(starts, codePoint);
+        if (interval >= 0) {
+            return true;
+        }
+        final int preceding = -(interval + 1) - 1;
+        return preceding >= 0 && codePoint <= ends[preceding];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int codePointAt(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(format("index %s is outside of the set of %s code points", index, size));
+        }
+
+        int low = 0;
+        int high = countsBefore.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (countsBefore[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return starts[low] + (index - countsBefore[low]);
+    }
+
+    public boolean isBmp() {
+        return size == 0 || ends[ends.length - 1] < Character.MIN_SUPPLEMENTARY_CODE_POINT;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CodePointSet that = (CodePointSet) o;
+        return Arrays.equals(starts, that.starts) && Arrays.equals(ends, that.ends);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("CodePointSet {");
+        for (int i = 0; i < starts.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(format("U+%04X..U+%04X", starts[i], ends[i]));
+        }
+        return builder.append('}').toString();
+    }
+
+    private static final class Tables {
+
+        private static final CodePointSet[] CATEGORIES = new CodePointSet[Character.FINAL_QUOTE_PUNCTUATION + 1];
+        private static final CodePointSet ASSIGNED;
+
+        static {
+            final Builder[] builders = new Builder[CATEGORIES.length];
+            for (int codePoint = Character.MIN_CODE_POINT; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+                final int type = Character.getType(codePoint);
+                if (builders[type] == null) {
+                    builders[type] = new Builder(16);
+                }
+                builders[type].add(codePoint, codePoint);
+            }
+
+            CodePointSet assigned = EMPTY;
+            for (int type = 0; type < CATEGORIES.length; type++) {
+                if (builders[type] != null) {
+                    CATEGORIES[type] = builders[type].build().difference(SURROGATES);
+                    if (type != Character.UNASSIGNED) {
+                        assigned = assigned.union(CATEGORIES[type]);
+                    }
+                }
+            }
+            ASSIGNED = assigned;
+        }
+    }
+
+    private static final class ScriptTables {
+        private static final Map<UnicodeScript, CodePointSet> SCRIPTS = build(new EnumMap<>(UnicodeScript.class), UnicodeScript::of);
+    }
+
+    private static final class BlockTables {
+        private static final Map<UnicodeBlock, CodePointSet> BLOCKS = build(new HashMap<>(), UnicodeBlock::of);
+    }
+
+    private static <K> Map<K, CodePointSet> build(final Map<K, CodePointSet> sets, final IntFunction<K> keyOfCodePoint) {
+        final Map<K, Builder> builders = new HashMap<>();
+        for (int codePoint = Character.MIN_CODE_POINT; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            if (Character.getType(codePoint) == Character.SURROGATE) {
+                continue;
+            }
+            final K key = keyOfCodePoint.apply(codePoint);
+            if (key != null) {
+                builders.computeIfAbsent(key, k -> new Builder(16)).add(codePoint, codePoint);
+            }
+        }
+        builders.forEach((key, builder) -> sets.put(key, builder.build()));
+        return sets;
+    }
+
+    private static final class Builder {
+
+        private int[] starts;
+        private int[] ends;
+        private int length;
+
+        private Builder(final int capacity) {
+            this.starts = new int[Math.max(capacity, 1)];
+            this.ends = new int[Math.max(capacity, 1)];
+        }
+
+        private void add(final int start, final int end) {
+            if (length > 0 && start <= ends[length - 1] + 1) {
+                ends[length - 1] = Math.max(ends[length - 1], end);
+                return;
+            }
+            if (length == starts.length) {
+                starts = Arrays.copyOf(starts, length * 2);
+                ends = Arrays.copyOf(ends, length * 2);
+            }
+            starts[length] = start;
+            ends[length] = end;
+            length++;
+        }
+
+        private CodePointSet build() {
+            return new CodePointSet(Arrays.copyOf(starts, length), Arrays.copyOf(ends, length));
+        }
+    }
+}
@@ -1,17 +1,75 @@
 package uk.org.fyodor.generators.characters;
 
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class RegExCharacterFilter implements CharacterFilter {
 
     private final Pattern pattern;
+    private final ThreadLocal<SingleCharacterMatcher> matcher;
 
     public RegExCharacterFilter(String regex) {
         pattern = Pattern.compile(regex);
+        matcher = ThreadLocal.withInitial(() -> new SingleCharacterMatcher(pattern));
     }
 
     @Override
     public boolean includeCharacter(char c) {
-        return pattern.matcher(String.valueOf(c)).find();
+        return matcher.get().find(c);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.pattern().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return pattern.pattern().equals(((RegExCharacterFilter) o).pattern.pattern());
+    }
+
+    /*
+    Reuses one matcher per thread over a mutable single character, rather than allocating a String and a Matcher for
+    every character tested.
+     */
+    private static final class SingleCharacterMatcher implements CharSequence {
+
+        private final Matcher matcher;
+        private char c;
+
+        private SingleCharacterMatcher(Pattern pattern) {
+            this.matcher = pattern.matcher(this);
+        }
+
+        private boolean find(char c) {
+            this.c = c;
+            return matcher.reset().find();
+        }
+
+        @Override
+        public int length() {
+            return 1;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return c;
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return String.valueOf(c).subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(c);
+        }
     }
 }
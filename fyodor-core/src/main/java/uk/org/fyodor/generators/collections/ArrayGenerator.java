@@ -6,18 +6,33 @@ import uk.org.fyodor.range.Range;
 
 import java.lang.reflect.Array;
 
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
+
 public final class ArrayGenerator<T> implements Generator<T[]> {
 
     private final RandomValues randomValues;
     private final Class<? extends T> classOfT;
-    private final Generator<? extends T> generatorOfT;
+    private final Generator<T> generatorOfT;
     private final Range<Integer> sizeRange;
 
     public ArrayGenerator(final RandomValues randomValues, final Class<? extends T> classOfT, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange) {
+        this(randomValues, classOfT, generatorOfT, sizeRange, collectionOptions().maximumSize());
+    }
+
+    /*
+    Arrays are always mutable, so of the collection options only the maximum size applies to them. The generator is
+    only ever asked for values, so it can safely be viewed as producing the array's element type.
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayGenerator(final RandomValues randomValues,
+                          final Class<? extends T> classOfT,
+                          final Generator<? extends T> generatorOfT,
+                          final Range<Integer> sizeRange,
+                          final int maximumSize) {
         this.randomValues = randomValues;
         this.classOfT = classOfT;
-        this.generatorOfT = generatorOfT;
-        this.sizeRange = sizeRange.limit(Range.closed(0, 1000));
+        this.generatorOfT = (Generator<T>) generatorOfT;
+        this.sizeRange = sizeRange.limit(Range.closed(0, maximumSize));
     }
 
     @Override
@@ -25,9 +40,7 @@ public final class ArrayGenerator<T> implements Generator<T[]> {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
         final T[] arrayOfT = newArray(classOfT, size);
 
-        for (int i = 0; i < size; i++) {
-            arrayOfT[i] = generatorOfT.next();
-        }
+        generatorOfT.fill(arrayOfT);
 
         return arrayOfT;
     }
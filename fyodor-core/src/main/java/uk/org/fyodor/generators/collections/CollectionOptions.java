@@ -0,0 +1,63 @@
+package uk.org.fyodor.generators.collections;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+/**
+ * The largest size a generated collection may have and whether it can be modified once it has been generated. By
+ * default collections are mutable and hold at most {@value #DEFAULT_MAXIMUM_SIZE} elements.
+ */
+public final class CollectionOptions {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final CollectionOptions DEFAULTS = new CollectionOptions(DEFAULT_MAXIMUM_SIZE, Mutability.MUTABLE);
+
+    private final int maximumSize;
+    private final Mutability mutability;
+
+    private CollectionOptions(final int maximumSize, final Mutability mutability) {
+        this.maximumSize = maximumSize;
+        this.mutability = mutability;
+    }
+
+    public static CollectionOptions collectionOptions() {
+        return DEFAULTS;
+    }
+
+    public CollectionOptions maximumSize(final int maximumSize) {
+        ensure(maximumSize >= 0, "maximum size cannot be negative");
+
+        return new CollectionOptions(maximumSize, mutability);
+    }
+
+    public CollectionOptions mutability(final Mutability mutability) {
+        ensure(isNotNull(mutability), "mutability cannot be null");
+
+        return new CollectionOptions(maximumSize, mutability);
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public Mutability mutability() {
+        return mutability;
+    }
+
+    public enum Mutability {
+        /**
+         * {@code ArrayList}, {@code HashSet} and {@code HashMap} instances which the caller owns.
+         */
+        MUTABLE,
+        /**
+         * Read-only views over a collection that nothing else references.
+         */
+        UNMODIFIABLE,
+        /**
+         * Lists backed directly by a fixed array without an intermediate {@code ArrayList}; sets and maps are
+         * generated as for {@link #UNMODIFIABLE}.
+         */
+        IMMUTABLE
+    }
+}
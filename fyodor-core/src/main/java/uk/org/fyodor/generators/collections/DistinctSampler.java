@@ -0,0 +1,98 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.EnumerableGenerator;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.FeistelPermutation;
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
+/*
+Distinct values are sampled according to what the generator knows about its domain. Domains of up to 2^31 values are
+sampled with Floyd's algorithm, which picks a uniformly random subset of indexes with exactly one draw per value.
+Larger enumerable domains walk a random Feistel permutation of their indexes, which needs no record of the indexes
+used. Values from any other generator are drawn and added until enough are distinct, giving up after too many
+duplicates, which only needs the memory of the collection being built.
+ */
+final class DistinctSampler {
+
+    private static final int MAX_DUPLICATES = 2000;
+
+    private DistinctSampler() {
+    }
+
+    /**
+     * @param add adds a value to the collection being built, returning false if it is already there
+     */
+    static <T> void sample(final RandomValues randomValues,
+                           final Generator<? extends T> generatorOfT,
+                           final int size,
+                           final Predicate<T> add,
+                           final String collection,
+                           final String generator) {
+        if (generatorOfT instanceof EnumerableGenerator && ((EnumerableGenerator<?>) generatorOfT).domainSize() < Long.MAX_VALUE) {
+            @SuppressWarnings("unchecked") final EnumerableGenerator<? extends T> enumerable = (EnumerableGenerator<? extends T>) generatorOfT;
+            final long domainSize = enumerable.domainSize();
+            if (size > domainSize) {
+                throw new IllegalStateException(format("unable to generate %s of size %s because the %s only has %s distinct values",
+                        collection, size, generator, domainSize));
+            }
+
+            if (domainSize <= Integer.MAX_VALUE) {
+                sampleFloyd(randomValues, enumerable, size, add, collection, generator);
+            } else {
+                samplePermutation(randomValues, enumerable, size, add, collection, generator);
+            }
+            return;
+        }
+
+        int duplicates = 0;
+        for (int added = 0; added < size; ) {
+            if (add.test(generatorOfT.next())) {
+                added++;
+            } else if (++duplicates >= MAX_DUPLICATES) {
+                throw new IllegalStateException(format("unable to generate %s of size %s because the %s returned too many duplicate values", collection, size, generator));
+            }
+        }
+    }
+
+    private static <T> void sampleFloyd(final RandomValues randomValues,
+                                        final EnumerableGenerator<? extends T> enumerable,
+                                        final int size,
+                                        final Predicate<T> add,
+                                        final String collection,
+                                        final String generator) {
+        final int domainSize = (int) enumerable.domainSize();
+        final Set<Integer> chosen = new HashSet<>(HashCapacity.forSize(size));
+        for (int j = domainSize - size; j < domainSize; j++) {
+            final int candidate = randomValues.randomInteger(0, j);
+            final int index = chosen.add(candidate) ? candidate : j;
+            if (index == j) {
+                chosen.add(j);
+            }
+            ensureAdded(add.test(enumerable.valueAt(index)), size, collection, generator);
+        }
+    }
+
+    private static <T> void samplePermutation(final RandomValues randomValues,
+                                              final EnumerableGenerator<? extends T> enumerable,
+                                              final int size,
+                                              final Predicate<T> add,
+                                              final String collection,
+                                              final String generator) {
+        final FeistelPermutation permutation = new FeistelPermutation(randomValues, enumerable.domainSize());
+        for (int i = 0; i < size; i++) {
+            ensureAdded(add.test(enumerable.valueAt(permutation.permute(i))), size, collection, generator);
+        }
+    }
+
+    private static void ensureAdded(final boolean added, final int size, final String collection, final String generator) {
+        if (!added) {
+            throw new IllegalStateException(format("unable to generate %s of size %s because the %s returned a duplicate value for a distinct index", collection, size, generator));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package uk.org.fyodor.generators.collections;
+
+final class HashCapacity {
+
+    private HashCapacity() {
+    }
+
+    /*
+    The initial capacity at which a hash table with the default load factor holds the given number of entries without
+    being resized.
+     */
+    static int forSize(final int size) {
+        return size < 3 ? size + 1 : (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(size / 0.75));
+    }
+}
@@ -0,0 +1,24 @@
+package uk.org.fyodor.generators.collections;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+final class ImmutableArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Object[] elements;
+
+    ImmutableArrayList(final Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+}
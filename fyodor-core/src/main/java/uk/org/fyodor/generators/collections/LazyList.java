@@ -0,0 +1,77 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.CounterBasedRandom;
+import uk.org.fyodor.random.RandomBackend;
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+
+/**
+ * An unmodifiable list whose elements are generated when they are read rather than held in memory. Every element is
+ * generated under its own seed, derived from its index, so reading an index always gives an equal element.
+ * <p>
+ * Lists may hold more than {@link Integer#MAX_VALUE} elements, which are reached through {@link #get(long)},
+ * {@link #longSize()} and {@link #stream()}.
+ */
+public final class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Supplier<? extends T> element;
+    private final long size;
+    private final CounterBasedRandom seeds;
+    private final RandomBackend backend;
+
+    /*
+    The element seeds come from a single draw of the given random source, and elements are generated with the calling
+    thread's randomness temporarily reseeded, so only generators that resolve their randomness per thread (as all
+    generators created by RDG do) are supported.
+     */
+    public LazyList(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final long size) {
+        this.element = generatorOfT::next;
+        this.size = size;
+        this.seeds = new CounterBasedRandom(randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE));
+        this.backend = seed().backend();
+    }
+
+    @Override
+    public T get(final int index) {
+        return get((long) index);
+    }
+
+    public T get(final long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(format("index %s is out of bounds for a list of size %s", index, size));
+        }
+
+        return seed().supplyIsolated(seeds.longAt(index), backend, element);
+    }
+
+    /**
+     * @return the number of elements, or {@link Integer#MAX_VALUE} if there are more than that
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public long longSize() {
+        return size;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return LongStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public Stream<T> parallelStream() {
+        return stream().parallel();
+    }
+}
@@ -4,28 +4,60 @@ import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Collections.unmodifiableList;
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
+
 public final class ListGenerator<T> implements Generator<List<T>> {
 
     private final RandomValues randomValues;
     private final Generator<? extends T> generatorOfT;
     private final Range<Integer> sizeRange;
+    private final CollectionOptions options;
 
     public ListGenerator(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange) {
+        this(randomValues, generatorOfT, sizeRange, collectionOptions());
+    }
+
+    public ListGenerator(final RandomValues randomValues,
+                         final Generator<? extends T> generatorOfT,
+                         final Range<Integer> sizeRange,
+                         final CollectionOptions options) {
         this.randomValues = randomValues;
         this.generatorOfT = generatorOfT;
-        this.sizeRange = sizeRange.limit(Range.closed(0, 1000));
+        this.sizeRange = sizeRange.limit(Range.closed(0, options.maximumSize()));
+        this.options = options;
     }
 
     @Override
     public List<T> next() {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
-        final List<T> listOfTs = new LinkedList<>();
-        for (int i = 0; i < size; i++) {
-            listOfTs.add(generatorOfT.next());
+
+        switch (options.mutability()) {
+            case IMMUTABLE:
+                return new ImmutableArrayList<>(elements(size));
+            case UNMODIFIABLE:
+                return unmodifiableList(arrayList(size));
+            default:
+                return arrayList(size);
         }
+    }
+
+    /*
+    The generator is only ever asked for values, so it can safely fill an Object[] viewed as an array of T.
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] elements(final int size) {
+        final T[] elements = (T[]) new Object[size];
+        ((Generator<T>) generatorOfT).fill(elements);
+        return elements;
+    }
+
+    private List<T> arrayList(final int size) {
+        final List<T> listOfTs = new ArrayList<>(size);
+        generatorOfT.next(size, listOfTs::add);
         return listOfTs;
     }
 }
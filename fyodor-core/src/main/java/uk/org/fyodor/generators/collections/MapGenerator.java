@@ -7,8 +7,9 @@ import uk.org.fyodor.range.Range;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Collections.unmodifiableMap;
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
 import static uk.org.fyodor.range.Range.closed;
-import static java.lang.String.format;
 
 public final class MapGenerator<K, V> implements Generator<Map<K, V>> {
 
@@ -16,36 +17,41 @@ public final class MapGenerator<K, V> implements Generator<Map<K, V>> {
     private final Generator<? extends K> generatorOfK;
     private final Generator<? extends V> generatorOfV;
     private final Range<Integer> sizeRange;
+    private final CollectionOptions options;
 
     public MapGenerator(final RandomValues randomValues,
                         final Generator<? extends K> generatorOfK,
                         final Generator<? extends V> generatorOfV,
                         final Range<Integer> sizeRange) {
+        this(randomValues, generatorOfK, generatorOfV, sizeRange, collectionOptions());
+    }
+
+    public MapGenerator(final RandomValues randomValues,
+                        final Generator<? extends K> generatorOfK,
+                        final Generator<? extends V> generatorOfV,
+                        final Range<Integer> sizeRange,
+                        final CollectionOptions options) {
         this.randomValues = randomValues;
         this.generatorOfK = generatorOfK;
         this.generatorOfV = generatorOfV;
-        this.sizeRange = sizeRange.limit(closed(0, 1000));
+        this.sizeRange = sizeRange.limit(closed(0, options.maximumSize()));
+        this.options = options;
     }
 
     @Override
     public Map<K, V> next() {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
-        final HashMap<K, V> map = new HashMap<>();
-
-        int misses = 0;
-        while (map.size() < size) {
-            final int sizeBeforePut = map.size();
-            final K key = generatorOfK.next();
+        final Map<K, V> map = new HashMap<>(HashCapacity.forSize(size));
+        DistinctSampler.<K>sample(randomValues, generatorOfK, size, key -> {
             if (key == null) {
                 throw new NullPointerException("key generator generated a null value");
             }
-            map.put(key, generatorOfV.next());
-            if (map.size() == sizeBeforePut) {
-                if (++misses > 2000) {
-                    throw new IllegalStateException(format("unable to generate map of size %s because the key generator returned too many duplicate values", size));
-                }
+            if (map.containsKey(key)) {
+                return false;
             }
-        }
-        return map;
+            map.put(key, generatorOfV.next());
+            return true;
+        }, "map", "key generator");
+        return options.mutability() == CollectionOptions.Mutability.MUTABLE ? map : unmodifiableMap(map);
     }
 }
@@ -7,35 +7,35 @@ import uk.org.fyodor.range.Range;
 import java.util.HashSet;
 import java.util.Set;
 
-import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
 
 public final class SetGenerator<T> implements Generator<Set<T>> {
 
     private final RandomValues randomValues;
     private final Generator<? extends T> generatorOfT;
     private final Range<Integer> sizeRange;
+    private final CollectionOptions options;
 
     public SetGenerator(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange) {
+        this(randomValues, generatorOfT, sizeRange, collectionOptions());
+    }
+
+    public SetGenerator(final RandomValues randomValues,
+                        final Generator<? extends T> generatorOfT,
+                        final Range<Integer> sizeRange,
+                        final CollectionOptions options) {
         this.randomValues = randomValues;
         this.generatorOfT = generatorOfT;
-        this.sizeRange = sizeRange.limit(Range.closed(0, 1000));
+        this.sizeRange = sizeRange.limit(Range.closed(0, options.maximumSize()));
+        this.options = options;
     }
 
     @Override
     public Set<T> next() {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
-        final Set<T> setOfT = new HashSet<>();
-        int missCount = 0;
-        while (setOfT.size() < size) {
-            final int sizeBefore = setOfT.size();
-            setOfT.add(generatorOfT.next());
-            if (setOfT.size() == sizeBefore) {
-                missCount++;
-            }
-            if (missCount >= 2000) {
-                throw new IllegalStateException(format("unable to generate set of size %s because the value generator returned too many duplicate values", size));
-            }
-        }
-        return setOfT;
+        final Set<T> setOfT = new HashSet<>(HashCapacity.forSize(size));
+        DistinctSampler.sample(randomValues, generatorOfT, size, setOfT::add, "set", "value generator");
+        return options.mutability() == CollectionOptions.Mutability.MUTABLE ? setOfT : unmodifiableSet(setOfT);
     }
 }
@@ -0,0 +1,46 @@
+package uk.org.fyodor.generators.regex;
+
+import uk.org.fyodor.generators.TextGenerator;
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+public final class RegexGenerator implements TextGenerator {
+
+    private static final int MAX_CACHED_PATTERNS = 1024;
+    private static final Map<String, RegexNode> compiledPatterns = new ConcurrentHashMap<>();
+
+    private final RandomValues randomValues;
+    private final RegexNode root;
+
+    public RegexGenerator(final RandomValues randomValues, final String regex) {
+        ensure(isNotNull(regex), "regex cannot be null");
+
+        this.randomValues = randomValues;
+        this.root = compile(regex);
+    }
+
+    @Override
+    public void appendTo(final StringBuilder builder) {
+        root.appendTo(builder, randomValues);
+    }
+
+    private static RegexNode compile(final String regex) {
+        final RegexNode cached = compiledPatterns.get(regex);
+        if (cached != null) {
+            return cached;
+        }
+
+        Pattern.compile(regex);
+        final RegexNode compiled = RegexParser.parse(regex);
+        if (compiledPatterns.size() < MAX_CACHED_PATTERNS) {
+            compiledPatterns.putIfAbsent(regex, compiled);
+        }
+        return compiled;
+    }
+}
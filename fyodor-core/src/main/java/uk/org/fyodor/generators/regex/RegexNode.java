@@ -0,0 +1,204 @@
+package uk.org.fyodor.generators.regex;
+
+import uk.org.fyodor.generators.characters.CharacterClass;
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.List;
+
+/*
+A node of a compiled pattern, which knows the (natural) log of the number of paths through it so that choices between
+alternatives and repetition counts can be weighted by the number of strings behind them. Every path is then equally
+likely, without ever generating a string that has to be rejected. Counts are kept as logarithms because they overflow
+any fixed width type for patterns as small as [a-z]{20}.
+ */
+abstract class RegexNode {
+
+    abstract double logCount();
+
+    abstract void appendTo(StringBuilder builder, RandomValues randomValues);
+
+    static final class Empty extends RegexNode {
+
+        static final Empty INSTANCE = new Empty();
+
+        @Override
+        double logCount() {
+            return 0;
+        }
+
+        @Override
+        void appendTo(final StringBuilder builder, final RandomValues randomValues) {
+        }
+    }
+
+    static final class Literal extends RegexNode {
+
+        private final char c;
+
+        Literal(final char c) {
+            this.c = c;
+        }
+
+        @Override
+        double logCount() {
+            return 0;
+        }
+
+        @Override
+        void appendTo(final StringBuilder builder, final RandomValues randomValues) {
+            builder.append(c);
+        }
+    }
+
+    static final class Characters extends RegexNode {
+
+        private final char[] chars;
+
+        Characters(final CharacterClass characterClass) {
+            this.chars = characterClass.toCharArray();
+        }
+
+        @Override
+        double logCount() {
+            return Math.log(chars.length);
+        }
+
+        @Override
+        void appendTo(final StringBuilder builder, final RandomValues randomValues) {
+            builder.append(chars[randomValues.randomInteger(0, chars.length - 1)]);
+        }
+    }
+
+    static final class Sequence extends RegexNode {
+
+        private final RegexNode[] nodes;
+        private final double logCount;
+
+        Sequence(final List<RegexNode> nodes) {
+            this.nodes = nodes.toArray(new RegexNode[0]);
+
+            double logCount = 0;
+            for (final RegexNode node : this.nodes) {
+                logCount += node.logCount();
+            }
+            this.logCount = logCount;
+        }
+
+        @Override
+        double logCount() {
+            return logCount;
+        }
+
+        @Override
+        void appendTo(final StringBuilder builder, final RandomValues randomValues) {
+            for (final RegexNode node : nodes) {
+                node.appendTo(builder, randomValues);
+            }
+        }
+    }
+
+    static final class Alternation extends RegexNode {
+
+        private final RegexNode[] alternatives;
+        private final WeightedChoice choice;
+
+        Alternation(final List<RegexNode> alternatives) {
+            this.alternatives = alternatives.toArray(new RegexNode[0]);
+
+            final double[] logWeights = new double[this.alternatives.length];
+            for (int i = 0; i < logWeights.length; i++) {
+                logWeights[i] = this.alternatives[i].logCount();
+            }
+            this.choice = new WeightedChoice(logWeights);
+        }
+
+        @Override
+        double logCount() {
+            return choice.logTotal();
+        }
+
+        @Override
+        void appendTo(final StringBuilder builder, final RandomValues randomValues) {
+            alternatives[choice.choose(randomValues)].appendTo(builder, randomValues);
+        }
+    }
+
+    static final class Repetition extends RegexNode {
+
+        private final RegexNode node;
+        private final int min;
+        private final WeightedChoice choice;
+
+        Repetition(final RegexNode node, final int min, final int max) {
+            this.node = node;
+            this.min = min;
+
+            final double[] logWeights = new double[max - min + 1];
+            for (int i = 0; i < logWeights.length; i++) {
+                logWeights[i] = (min + i) * node.logCount();
+            }
+            this.choice = new WeightedChoice(logWeights);
+        }
+
+        @Override
+        double logCount() {
+            return choice.logTotal();
+        }
+
+        @Override
+        void appendTo(final StringBuilder builder, final RandomValues randomValues) {
+            final int repetitions = min + choice.choose(randomValues);
+            for (int i = 0; i < repetitions; i++) {
+                node.appendTo(builder, randomValues);
+            }
+        }
+    }
+
+    private static final class WeightedChoice {
+
+        private final double[] cumulativeProbabilities;
+        private final double logTotal;
+
+        private WeightedChoice(final double[] logWeights) {
+            double maxLogWeight = Double.NEGATIVE_INFINITY;
+            for (final double logWeight : logWeights) {
+                maxLogWeight = Math.max(maxLogWeight, logWeight);
+            }
+
+            this.cumulativeProbabilities = new double[logWeights.length];
+            double total = 0;
+            for (int i = 0; i < logWeights.length; i++) {
+                total += Math.exp(logWeights[i] - maxLogWeight);
+                cumulativeProbabilities[i] = total;
+            }
+            for (int i = 0; i < cumulativeProbabilities.length; i++) {
+                cumulativeProbabilities[i] /= total;
+            }
+            this.logTotal = maxLogWeight + Math.log(total);
+        }
+
+        private double logTotal() {
+            return logTotal;
+        }
+
+        private int choose(final RandomValues randomValues) {
+            final int last = cumulativeProbabilities.length - 1;
+            if (last == 0) {
+                return 0;
+            }
+
+            final double point = randomValues.randomDouble(0.0, 1.0);
+            int low = 0;
+            int high = last;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (point < cumulativeProbabilities[mid]) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package uk.org.fyodor.generators.regex;
+
+import uk.org.fyodor.generators.characters.CharacterClass;
+import uk.org.fyodor.range.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/*
+A recursive descent parser for the subset of java.util.regex syntax that describes a set of strings: literals, escapes,
+character classes, the predefined classes \d \w \s and their negations, '.', groups, alternation and the greedy, lazy
+and possessive quantifiers. Anchors at either end of the pattern are ignored. Unbounded quantifiers repeat at most
+MAX_UNBOUNDED_REPETITIONS times more than their minimum. Negated classes and '.' draw from printable ASCII.
+ */
+final class RegexParser {
+
+    static final int MAX_UNBOUNDED_REPETITIONS = 8;
+
+    private static final CharacterClass PRINTABLE = CharacterClass.of(c -> true, Range.closed(0x20, 0x7E));
+    private static final CharacterClass DIGITS = CharacterClass.of("0123456789");
+    private static final CharacterClass WORD_CHARACTERS = CharacterClass.of("_0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    private static final CharacterClass WHITESPACE = CharacterClass.of(" \t\n\u000B\f\r");
+
+    private final String pattern;
+    private int position;
+
+    private RegexParser(final String pattern) {
+        this.pattern = pattern;
+    }
+
+    static RegexNode parse(final String pattern) {
+        final RegexParser parser = new RegexParser(pattern);
+        final RegexNode node = parser.alternation();
+        if (parser.hasNext()) {
+            throw parser.unsupported();
+        }
+        return node;
+    }
+
+    private RegexNode alternation() {
+        final List<RegexNode> alternatives = new ArrayList<>();
+        alternatives.add(sequence());
+        while (hasNext() && peek() == '|') {
+            position++;
+            alternatives.add(sequence());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new RegexNode.Alternation(alternatives);
+    }
+
+    private RegexNode sequence() {
+        final List<RegexNode> nodes = new ArrayList<>();
+        while (hasNext() && peek() != '|' && peek() != ')') {
+            if (isAnchor()) {
+                position++;
+                continue;
+            }
+            nodes.add(quantified(atom()));
+        }
+
+        if (nodes.isEmpty()) {
+            return RegexNode.Empty.INSTANCE;
+        }
+        return nodes.size() == 1 ? nodes.get(0) : new RegexNode.Sequence(nodes);
+    }
+
+    private boolean isAnchor() {
+        return (peek() == '^' && position == 0) || (peek() == '$' && position == pattern.length() - 1);
+    }
+
+    private RegexNode atom() {
+        final char c = next();
+        switch (c) {
+            case '(':
+                if (hasNext() && peek() == '?') {
+                    if (position + 1 < pattern.length() && pattern.charAt(position + 1) == ':') {
+                        position += 2;
+                    } else {
+                        position--;
+                        throw unsupported();
+                    }
+                }
+                final RegexNode group = alternation();
+                expect(')');
+                return group;
+            case '[':
+                return characters(characterClass());
+            case '.':
+                return characters(PRINTABLE);
+            case '\\':
+                return escape();
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+            case '^':
+            case '$':
+                position--;
+                throw unsupported();
+            default:
+                return new RegexNode.Literal(c);
+        }
+    }
+
+    private RegexNode quantified(final RegexNode node) {
+        if (!hasNext()) {
+            return node;
+        }
+
+        final int min;
+        final int max;
+        switch (peek()) {
+            case '*':
+                position++;
+                min = 0;
+                max = MAX_UNBOUNDED_REPETITIONS;
+                break;
+            case '+':
+                position++;
+                min = 1;
+                max = 1 + MAX_UNBOUNDED_REPETITIONS;
+                break;
+            case '?':
+                position++;
+                min = 0;
+                max = 1;
+                break;
+            case '{':
+                position++;
+                min = number();
+                if (hasNext() && peek() == ',') {
+                    position++;
+                    max = hasNext() && peek() == '}' ? min + MAX_UNBOUNDED_REPETITIONS : number();
+                } else {
+                    max = min;
+                }
+                expect('}');
+                break;
+            default:
+                return node;
+        }
+
+        if (hasNext() && (peek() == '?' || peek() == '+')) {
+            position++;
+        }
+        return new RegexNode.Repetition(node, min, max);
+    }
+
+    private int number() {
+        final int start = position;
+        while (hasNext() && Character.isDigit(peek())) {
+            position++;
+        }
+        if (start == position) {
+            throw unsupported();
+        }
+        return Integer.parseInt(pattern.substring(start, position));
+    }
+
+    private CharacterClass characterClass() {
+        final boolean negated = hasNext() && peek() == '^';
+        if (negated) {
+            position++;
+        }
+
+        CharacterClass characterClass = CharacterClass.of("");
+        boolean first = true;
+        while (first || peek() != ']') {
+            first = false;
+            if (peek() == '[' || pattern.startsWith("&&", position)) {
+                throw unsupported();
+            }
+
+            final int start = position;
+            final CharacterClass predefined = predefinedClassInCharacterClass();
+            if (predefined != null) {
+                characterClass = characterClass.union(predefined);
+                continue;
+            }
+
+            position = start;
+            final char from = classCharacter();
+            if (peek() == '-' && position + 1 < pattern.length() && pattern.charAt(position + 1) != ']') {
+                position++;
+                final char to = classCharacter();
+                characterClass = characterClass.union(CharacterClass.of(c -> true, Range.closed((int) from, (int) to)));
+            } else {
+                characterClass = characterClass.union(CharacterClass.of(String.valueOf(from)));
+            }
+        }
+        expect(']');
+
+        return negated ? PRINTABLE.difference(characterClass) : characterClass;
+    }
+
+    private CharacterClass predefinedClassInCharacterClass() {
+        if (next() != '\\') {
+            return null;
+        }
+        return predefinedClass(next());
+    }
+
+    private char classCharacter() {
+        final char c = next();
+        if (c != '\\') {
+            return c;
+        }
+        final char escaped = next();
+        if (predefinedClass(escaped) != null) {
+            position -= 2;
+            throw unsupported();
+        }
+        return escapedCharacter(escaped);
+    }
+
+    private RegexNode escape() {
+        final char escaped = next();
+        final CharacterClass predefined = predefinedClass(escaped);
+        if (predefined != null) {
+            return characters(predefined);
+        }
+        return new RegexNode.Literal(escapedCharacter(escaped));
+    }
+
+    private static CharacterClass predefinedClass(final char escaped) {
+        switch (escaped) {
+            case 'd':
+                return DIGITS;
+            case 'D':
+                return PRINTABLE.difference(DIGITS);
+            case 'w':
+                return WORD_CHARACTERS;
+            case 'W':
+                return PRINTABLE.difference(WORD_CHARACTERS);
+            case 's':
+                return WHITESPACE;
+            case 'S':
+                return PRINTABLE.difference(WHITESPACE);
+            default:
+                return null;
+        }
+    }
+
+    private char escapedCharacter(final char escaped) {
+        switch (escaped) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'x':
+                return hexadecimal(2);
+            case 'u':
+                return hexadecimal(4);
+            default:
+                if (Character.isLetterOrDigit(escaped)) {
+                    position -= 2;
+                    throw unsupported();
+                }
+                return escaped;
+        }
+    }
+
+    private char hexadecimal(final int digits) {
+        if (position + digits > pattern.length()) {
+            throw unsupported();
+        }
+        final String hex = pattern.substring(position, position + digits);
+        position += digits;
+        return (char) Integer.parseInt(hex, 16);
+    }
+
+    private RegexNode characters(final CharacterClass characterClass) {
+        if (characterClass.isEmpty()) {
+            throw new IllegalArgumentException(format("character class ending at index %s of regex %s does not match any characters", position - 1, pattern));
+        }
+        return characterClass.size() == 1
+                ? new RegexNode.Literal(characterClass.toCharArray()[0])
+                : new RegexNode.Characters(characterClass);
+    }
+
+    private void expect(final char expected) {
+        if (!hasNext() || next() != expected) {
+            throw new IllegalArgumentException(format("expected '%s' at index %s of regex %s", expected, position - 1, pattern));
+        }
+    }
+
+    private boolean hasNext() {
+        return position < pattern.length();
+    }
+
+    private char peek() {
+        if (!hasNext()) {
+            throw new IllegalArgumentException(format("unexpected end of regex %s", pattern));
+        }
+        return pattern.charAt(position);
+    }
+
+    private char next() {
+        final char c = peek();
+        position++;
+        return c;
+    }
+
+    private IllegalArgumentException unsupported() {
+        return new IllegalArgumentException(format("unsupported regex construct at index %s of regex %s", position, pattern));
+    }
+}
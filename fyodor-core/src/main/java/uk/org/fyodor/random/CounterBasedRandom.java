@@ -0,0 +1,62 @@
+package uk.org.fyodor.random;
+
+import static uk.org.fyodor.random.SplitMix64.GOLDEN_GAMMA;
+import static uk.org.fyodor.random.SplitMix64.mix64;
+
+/*
+A counter-based generator: the word at position n of the stream is the SplitMix64 hash of key + (n + 1) * gamma,
+where the key is itself a hash of the seed. Any position can therefore be computed directly, which gives O(1)
+jump-ahead, random access to a stream and independent sub-streams for splitting work without coordination.
+ */
+public final class CounterBasedRandom extends LongSourcedRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private long key;
+    private long position;
+
+    public CounterBasedRandom(final long seed) {
+        super(seed);
+    }
+
+    private CounterBasedRandom(final long key, final long position) {
+        super(0L);
+        this.key = key;
+        this.position = position;
+    }
+
+    @Override
+    void reseed(final long seed) {
+        key = mix64(seed);
+        position = 0;
+    }
+
+    @Override
+    public long nextLong() {
+        return wordAt(key, position++);
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public void jump(final long steps) {
+        position += steps;
+    }
+
+    public long longAt(final long position) {
+        return wordAt(key, position);
+    }
+
+    public RandomValues at(final long position) {
+        return new DefaultRandomValues(new CounterBasedRandom(key, position));
+    }
+
+    public CounterBasedRandom substream(final long index) {
+        return new CounterBasedRandom(mix64(key ^ mix64(index + GOLDEN_GAMMA)), 0);
+    }
+
+    private static long wordAt(final long key, final long position) {
+        return mix64(key + (position + 1) * GOLDEN_GAMMA);
+    }
+}
@@ -1,5 +1,8 @@
 package uk.org.fyodor.random;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Random;
 
 import static java.math.BigDecimal.valueOf;
@@ -8,6 +11,16 @@ import static java.math.RoundingMode.HALF_UP;
 
 final class DefaultRandomValues implements RandomValues {
 
+    private static final long INTEGER_MASK = 0xFFFFFFFFL;
+    private static final long FULL_INTEGER_SPAN = 1L << 32;
+    private static final long FULL_LONG_SPAN = 0L;
+
+    private static final double MAX_EXACT_INTEGRAL_DOUBLE = 0x1.0p52;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
     private final Random random;
 
     DefaultRandomValues(final Random random) {
@@ -27,15 +40,12 @@ final class DefaultRandomValues implements RandomValues {
             return lower;
         }
 
-        int diff = upper - lower;
-        if (diff >= 0 && diff != Integer.MAX_VALUE) {
-            return (lower + random.nextInt(diff + 1));
+        final long span = (long) upper - lower + 1;
+        if (span == FULL_INTEGER_SPAN) {
+            return random.nextInt();
         }
-        int i;
-        do {
-            i = random.nextInt();
-        } while (i < lower || i > upper);
-        return i;
+
+        return lower + boundedInteger(span);
     }
 
     @Override
@@ -46,15 +56,12 @@ final class DefaultRandomValues implements RandomValues {
             return lower;
         }
 
-        final long diff = upper - lower;
-        if (diff >= 0 && diff != Integer.MAX_VALUE) {
-            return (lower + randomLong(diff + 1));
+        final long span = upper - lower + 1;
+        if (span == FULL_LONG_SPAN) {
+            return random.nextLong();
         }
-        long i;
-        do {
-            i = random.nextLong();
-        } while (i < lower || i > upper);
-        return i;
+
+        return lower + boundedLong(span);
     }
 
     @Override
@@ -76,6 +83,30 @@ final class DefaultRandomValues implements RandomValues {
 
         final double unscaledRandomDouble = randomDouble(lower, upper);
 
+        /*
+        Scales with an exact power of ten round in double arithmetic, which agrees with rounding the decimal value
+        from BigDecimal.valueOf unless the shifted value is within a few ulps of a rounding boundary (a half for
+        HALF_UP, a whole number for DOWN) or too large to hold its fraction. Those rare values take the decimal path.
+         */
+        if (scale < POWERS_OF_TEN.length) {
+            final double powerOfTen = POWERS_OF_TEN[scale];
+            final double shifted = unscaledRandomDouble * powerOfTen;
+            final double magnitude = Math.abs(shifted);
+            if (magnitude < MAX_EXACT_INTEGRAL_DOUBLE) {
+                final double fraction = magnitude - Math.floor(magnitude);
+                final double tolerance = 4 * Math.ulp(magnitude);
+                if (Math.abs(fraction - 0.5) > tolerance) {
+                    final double scaledHalfUp = roundHalfUp(shifted) / powerOfTen;
+                    if (scaledHalfUp <= upper) {
+                        return scaledHalfUp;
+                    }
+                    if (fraction > tolerance && fraction < 1.0 - tolerance) {
+                        return roundDown(shifted) / powerOfTen;
+                    }
+                }
+            }
+        }
+
         final double scaledHalfUp = scaleAndRoundHalfUp(unscaledRandomDouble, scale);
 
         return scaledHalfUp > upper
@@ -100,13 +131,192 @@ final class DefaultRandomValues implements RandomValues {
         return (short) randomInteger(lower, upper);
     }
 
-    private long randomLong(final long max) {
-        long bits, val;
+    @Override
+    public void fillIntegers(final int[] integers, final int lower, final int upper) {
+        satisfies(integers != null, "the array of integers cannot be null");
+        satisfies(lower <= upper, "the upper bound must be equal to or greater than the lower bound");
+
+        if (lower == upper) {
+            Arrays.fill(integers, lower);
+            return;
+        }
+
+        final long span = (long) upper - lower + 1;
+        if (span == FULL_INTEGER_SPAN) {
+            for (int i = 0; i < integers.length; i++) {
+                integers[i] = random.nextInt();
+            }
+            return;
+        }
+
+        final long threshold = (FULL_INTEGER_SPAN - span) % span;
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = lower + boundedInteger(span, threshold);
+        }
+    }
+
+    @Override
+    public void fillLongs(final long[] longs, final long lower, final long upper) {
+        satisfies(longs != null, "the array of longs cannot be null");
+        satisfies(lower <= upper, "the upper bound must be equal to or greater than the lower bound");
+
+        if (lower == upper) {
+            Arrays.fill(longs, lower);
+            return;
+        }
+
+        final long span = upper - lower + 1;
+        if (span == FULL_LONG_SPAN) {
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = random.nextLong();
+            }
+            return;
+        }
+
+        final long threshold = Long.remainderUnsigned(-span, span);
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = lower + boundedLong(span, threshold);
+        }
+    }
+
+    @Override
+    public void fillDoubles(final double[] doubles, final double lower, final double upper) {
+        satisfies(doubles != null, "the array of doubles cannot be null");
+        satisfies(lower <= upper, "the upper bound must be equal to or greater than the lower bound");
+
+        if (lower == upper) {
+            Arrays.fill(doubles, lower);
+            return;
+        }
+
+        for (int i = 0; i < doubles.length; i++) {
+            final double next = random.nextDouble();
+            doubles[i] = next * upper + (1.0 - next) * lower;
+        }
+    }
+
+    @Override
+    public void fillBooleans(final boolean[] booleans) {
+        satisfies(booleans != null, "the array of booleans cannot be null");
+
+        long bits = 0;
+        for (int i = 0; i < booleans.length; i++) {
+            if ((i & 63) == 0) {
+                bits = random.nextLong();
+            }
+            booleans[i] = (bits & 1) != 0;
+            bits >>>= 1;
+        }
+    }
+
+    @Override
+    public void fillBytes(final byte[] bytes, final int offset, final int length) {
+        satisfies(bytes != null, "the array of bytes cannot be null");
+        satisfies(offset >= 0 && length >= 0 && offset + length <= bytes.length, "the region must be within the array of bytes");
+
+        final int end = offset + length;
+        for (int i = offset; i < end; ) {
+            long word = random.nextLong();
+            for (final int wordEnd = Math.min(i + Long.BYTES, end); i < wordEnd; i++, word <<= Byte.SIZE) {
+                bytes[i] = (byte) (word >>> 56);
+            }
+        }
+    }
+
+    /*
+    Bytes are written most significant first whatever the buffer's byte order, so a buffer receives the same bytes as an
+    array filled from the same seed.
+     */
+    @Override
+    public void fillBytes(final ByteBuffer buffer, final int length) {
+        satisfies(buffer != null, "the buffer cannot be null");
+        satisfies(length >= 0 && length <= buffer.remaining(), "the length cannot exceed the space remaining in the buffer");
+
+        final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int remaining = length;
+        for (; remaining >= Long.BYTES; remaining -= Long.BYTES) {
+            final long word = random.nextLong();
+            buffer.putLong(bigEndian ? word : Long.reverseBytes(word));
+        }
+        for (long word = remaining > 0 ? random.nextLong() : 0; remaining > 0; remaining--, word <<= Byte.SIZE) {
+            buffer.put((byte) (word >>> 56));
+        }
+    }
+
+    /*
+    The bounded integer and long methods use Lemire's nearly divisionless method ("Fast Random Integer Generation
+    in an Interval", ACM TOMACS 2019): the high half of random bits multiplied by the span is unbiased unless the low
+    half falls below (2^w - span) mod span, so the division to find that threshold is only needed on the rare
+    occasions the low half is less than the span, and a single draw is enough in the common case.
+    The span is unsigned, which covers ranges wider than Integer.MAX_VALUE or Long.MAX_VALUE;
+    the full range is handled by the callers because it cannot be represented as a span.
+     */
+    private int boundedInteger(final long span) {
+        long product = (random.nextInt() & INTEGER_MASK) * span;
+        long low = product & INTEGER_MASK;
+        if (low < span) {
+            final long threshold = (FULL_INTEGER_SPAN - span) % span;
+            while (low < threshold) {
+                product = (random.nextInt() & INTEGER_MASK) * span;
+                low = product & INTEGER_MASK;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    private int boundedInteger(final long span, final long threshold) {
+        long product;
+        do {
+            product = (random.nextInt() & INTEGER_MASK) * span;
+        } while ((product & INTEGER_MASK) < threshold);
+        return (int) (product >>> 32);
+    }
+
+    private long boundedLong(final long span) {
+        long bits = random.nextLong();
+        long low = bits * span;
+        if (Long.compareUnsigned(low, span) < 0) {
+            final long threshold = Long.remainderUnsigned(-span, span);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                bits = random.nextLong();
+                low = bits * span;
+            }
+        }
+        return unsignedMultiplyHigh(bits, span);
+    }
+
+    private long boundedLong(final long span, final long threshold) {
+        long bits;
         do {
-            bits = (random.nextLong() << 1) >>> 1;
-            val = bits % max;
-        } while (bits - val + (max - 1) < 0L);
-        return val;
+            bits = random.nextLong();
+        } while (Long.compareUnsigned(bits * span, threshold) < 0);
+        return unsignedMultiplyHigh(bits, span);
+    }
+
+    private static long unsignedMultiplyHigh(final long x, final long y) {
+        final long x0 = x & INTEGER_MASK;
+        final long x1 = x >>> 32;
+        final long y0 = y & INTEGER_MASK;
+        final long y1 = y >>> 32;
+
+        final long t = x1 * y0 + ((x0 * y0) >>> 32);
+        final long w1 = x0 * y1 + (t & INTEGER_MASK);
+
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    private static double roundHalfUp(final double value) {
+        final double magnitude = Math.abs(value);
+        double rounded = Math.floor(magnitude);
+        if (magnitude - rounded >= 0.5) {
+            rounded += 1.0;
+        }
+        return value < 0 && rounded != 0 ? -rounded : rounded;
+    }
+
+    private static double roundDown(final double value) {
+        final double rounded = value < 0 ? Math.ceil(value) : Math.floor(value);
+        return rounded + 0.0;
     }
 
     private static double scaleAndRoundHalfUp(final double unscaledRandomDouble, final int scale) {
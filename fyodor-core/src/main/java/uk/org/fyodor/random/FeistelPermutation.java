@@ -0,0 +1,63 @@
+package uk.org.fyodor.random;
+
+import static uk.org.fyodor.random.SplitMix64.mix64;
+
+/**
+ * A keyed pseudo-random bijection of {@code 0..size-1} onto itself, so the images of distinct indexes are always
+ * distinct without remembering which have been used.
+ */
+public final class FeistelPermutation {
+
+    /*
+    A balanced Feistel network over the smallest even power of two covering the domain is a bijection whatever the
+    round function, and cycle-walking (reapplying it until the result lands inside the domain) restricts it to a
+    bijection of the domain. The covering power of two is less than four times the domain, so few walks are needed.
+     */
+    private static final int ROUNDS = 6;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public FeistelPermutation(final RandomValues randomValues, final long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+
+        this.size = size;
+        final int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long permute(final long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("index must be within 0.." + (size - 1));
+        }
+
+        long permuted = index;
+        do {
+            permuted = feistel(permuted);
+        } while (permuted < 0 || permuted >= size);
+        return permuted;
+    }
+
+    private long feistel(final long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (final long roundKey : roundKeys) {
+            final long mixed = (left ^ mix64(right + roundKey)) & halfMask;
+            left = right;
+            right = mixed;
+        }
+        return (left << halfBits) | right;
+    }
+}
@@ -0,0 +1,59 @@
+package uk.org.fyodor.random;
+
+import static java.lang.Long.rotateLeft;
+import static uk.org.fyodor.random.SplitMix64.GOLDEN_GAMMA;
+import static uk.org.fyodor.random.SplitMix64.mix64;
+
+/*
+The L64X128MixRandom member of the LXM family (Steele and Vigna, "LXM: Better Splittable Pseudorandom Number
+Generators (and Almost as Fast)", OOPSLA 2021), as shipped by java.util.random in JDK 17.
+It is implemented here so that it is available on every JVM fyodor supports; the state is expanded from the
+64-bit seed with SplitMix64, so sequences are reproducible but do not match the JDK's own seeding.
+ */
+final class L64X128MixRandom extends LongSourcedRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long M = 0xd1342543de82ef95L;
+
+    private long a;
+    private long s;
+    private long x0;
+    private long x1;
+
+    @Override
+    void reseed(final long seed) {
+        a = mix64(seed + GOLDEN_GAMMA) | 1;
+        s = mix64(seed + 2 * GOLDEN_GAMMA);
+        x0 = mix64(seed + 3 * GOLDEN_GAMMA);
+        x1 = mix64(seed + 4 * GOLDEN_GAMMA);
+        if ((x0 | x1) == 0) {
+            x0 = GOLDEN_GAMMA;
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        final long result = mixLea64(s + x0);
+
+        s = M * s + a;
+
+        long q0 = x0;
+        long q1 = x1;
+        q1 ^= q0;
+        q0 = rotateLeft(q0, 24);
+        q0 = q0 ^ q1 ^ (q1 << 16);
+        q1 = rotateLeft(q1, 37);
+        x0 = q0;
+        x1 = q1;
+
+        return result;
+    }
+
+    private static long mixLea64(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        return z ^ (z >>> 32);
+    }
+}
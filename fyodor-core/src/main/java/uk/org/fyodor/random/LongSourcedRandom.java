@@ -0,0 +1,77 @@
+package uk.org.fyodor.random;
+
+import java.util.Random;
+
+/*
+Adapts a generator that produces 64 random bits at a time to java.util.Random, so that it can be used
+anywhere a Random is expected without going through Random's synchronised, CAS-guarded seed.
+ */
+abstract class LongSourcedRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+    LongSourcedRandom() {
+    }
+
+    LongSourcedRandom(final long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(final long seed) {
+        super.setSeed(seed);
+        reseed(seed);
+    }
+
+    abstract void reseed(long seed);
+
+    @Override
+    public abstract long nextLong();
+
+    @Override
+    protected final int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        int i = 0;
+        final int wholeWords = bytes.length & ~7;
+        while (i < wholeWords) {
+            long word = nextLong();
+            for (int n = 0; n < 8; n++, word >>>= 8) {
+                bytes[i++] = (byte) word;
+            }
+        }
+        if (i < bytes.length) {
+            long word = nextLong();
+            while (i < bytes.length) {
+                bytes[i++] = (byte) word;
+                word >>>= 8;
+            }
+        }
+    }
+}
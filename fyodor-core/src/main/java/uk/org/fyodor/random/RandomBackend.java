@@ -0,0 +1,14 @@
+package uk.org.fyodor.random;
+
+import java.util.Random;
+
+/**
+ * Supplies the {@link Random} that a {@link RandomSourceProvider.Seeder} draws from.
+ * <p>
+ * Implementations must return a new instance on every call, and that instance must produce
+ * the same sequence of values every time {@link Random#setSeed(long)} is called with the same seed.
+ */
+public interface RandomBackend {
+
+    Random newRandom();
+}
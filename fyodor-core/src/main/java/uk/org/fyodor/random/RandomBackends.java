@@ -0,0 +1,37 @@
+package uk.org.fyodor.random;
+
+import java.util.Random;
+
+public enum RandomBackends implements RandomBackend {
+
+    JdkRandom {
+        @Override
+        public Random newRandom() {
+            return new Random();
+        }
+    },
+    SplittableRandom {
+        @Override
+        public Random newRandom() {
+            return new SplittableRandomBackend();
+        }
+    },
+    Xoroshiro128PlusPlus {
+        @Override
+        public Random newRandom() {
+            return new Xoroshiro128PlusPlusRandom();
+        }
+    },
+    L64X128Mix {
+        @Override
+        public Random newRandom() {
+            return new L64X128MixRandom();
+        }
+    },
+    CounterBased {
+        @Override
+        public Random newRandom() {
+            return new CounterBasedRandom(0L);
+        }
+    }
+}
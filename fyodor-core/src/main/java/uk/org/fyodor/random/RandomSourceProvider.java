@@ -1,7 +1,10 @@
 package uk.org.fyodor.random;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.Stack;
+import java.util.function.Supplier;
 
 import static java.lang.ThreadLocal.withInitial;
 
@@ -13,6 +16,14 @@ public final class RandomSourceProvider {
         return new DefaultRandomValues(seeder.get().random());
     }
 
+    /**
+     * Resolves the calling thread's seeded source on every call, so generators shared between threads
+     * honour each thread's seed and never contend on a single {@link Random}.
+     */
+    public static RandomValues threadLocalSourceOfRandomness() {
+        return ThreadLocalRandomValues.instance();
+    }
+
     public static Seeder seed() {
         return seeder.get();
     }
@@ -23,10 +34,80 @@ public final class RandomSourceProvider {
     public static final class Seeder {
 
         private final Stack<Long> seedStack = new Stack<>();
-        private final Random random = new Random();
+        private final List<IsolatedSource> isolatedSources = new ArrayList<>();
+        private int isolationDepth;
+        private RandomBackend backend;
+        private Random random;
+        private RandomValues randomValues;
 
         private Seeder(final long initialSeed) {
-            next(initialSeed);
+            seedStack.push(initialSeed);
+            use(RandomBackends.JdkRandom);
+        }
+
+        public void use(final RandomBackend backend) {
+            if (backend == null) {
+                throw new IllegalArgumentException("random backend cannot be null");
+            }
+
+            final Random random = backend.newRandom();
+            random.setSeed(current());
+
+            this.backend = backend;
+            this.random = random;
+            this.randomValues = new DefaultRandomValues(random);
+        }
+
+        public RandomBackend backend() {
+            return backend;
+        }
+
+        /**
+         * Runs the action with this thread's randomness seeded from the given seed and backend,
+         * then restores the previous seed, backend and position in the random sequence.
+         */
+        public void runIsolated(final long seed, final RandomBackend backend, final Runnable action) {
+            supplyIsolated(seed, backend, () -> {
+                action.run();
+                return null;
+            });
+        }
+
+        /**
+         * Supplies a value with this thread's randomness seeded from the given seed and backend,
+         * then restores the previous seed, backend and position in the random sequence.
+         */
+        public <T> T supplyIsolated(final long seed, final RandomBackend backend, final Supplier<? extends T> supplier) {
+            if (backend == null) {
+                throw new IllegalArgumentException("random backend cannot be null");
+            }
+
+            final RandomBackend previousBackend = this.backend;
+            final Random previousRandom = this.random;
+            final RandomValues previousRandomValues = this.randomValues;
+
+            /*
+            Isolated runs are made once per element or chunk, so the source for each level of nesting is kept and
+            reseeded rather than built again. Backends promise the same sequence after every setSeed, so a reseeded
+            source is indistinguishable from a new one.
+             */
+            final IsolatedSource source = isolatedSource(backend);
+            source.random.setSeed(seed);
+
+            seedStack.push(seed);
+            isolationDepth++;
+            this.backend = backend;
+            this.random = source.random;
+            this.randomValues = source.randomValues;
+            try {
+                return supplier.get();
+            } finally {
+                seedStack.pop();
+                isolationDepth--;
+                this.backend = previousBackend;
+                this.random = previousRandom;
+                this.randomValues = previousRandomValues;
+            }
         }
 
         public void next(final long seed) {
@@ -45,8 +126,33 @@ public final class RandomSourceProvider {
             return seedStack.peek();
         }
 
+        RandomValues randomValues() {
+            return randomValues;
+        }
+
         private Random random() {
             return random;
         }
+
+        private IsolatedSource isolatedSource(final RandomBackend backend) {
+            if (isolatedSources.size() == isolationDepth) {
+                isolatedSources.add(new IsolatedSource(backend));
+            } else if (isolatedSources.get(isolationDepth).backend != backend) {
+                isolatedSources.set(isolationDepth, new IsolatedSource(backend));
+            }
+            return isolatedSources.get(isolationDepth);
+        }
+
+        private static final class IsolatedSource {
+            private final RandomBackend backend;
+            private final Random random;
+            private final RandomValues randomValues;
+
+            private IsolatedSource(final RandomBackend backend) {
+                this.backend = backend;
+                this.random = backend.newRandom();
+                this.randomValues = new DefaultRandomValues(random);
+            }
+        }
     }
 }
@@ -1,5 +1,7 @@
 package uk.org.fyodor.random;
 
+import java.nio.ByteBuffer;
+
 public interface RandomValues {
 
     boolean randomBoolean();
@@ -17,4 +19,46 @@ public interface RandomValues {
     byte[] randomBytes(int length);
 
     short randomShort(short lower, short upper);
+
+    default void fillIntegers(final int[] integers, final int lower, final int upper) {
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = randomInteger(lower, upper);
+        }
+    }
+
+    default void fillLongs(final long[] longs, final long lower, final long upper) {
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = randomLong(lower, upper);
+        }
+    }
+
+    default void fillDoubles(final double[] doubles, final double lower, final double upper) {
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = randomDouble(lower, upper);
+        }
+    }
+
+    default void fillBooleans(final boolean[] booleans) {
+        for (int i = 0; i < booleans.length; i++) {
+            booleans[i] = randomBoolean();
+        }
+    }
+
+    default void fillBytes(final byte[] bytes, final int offset, final int length) {
+        for (int i = 0; i < length; ) {
+            long word = randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            for (final int wordEnd = Math.min(i + Long.BYTES, length); i < wordEnd; i++, word <<= Byte.SIZE) {
+                bytes[offset + i] = (byte) (word >>> 56);
+            }
+        }
+    }
+
+    default void fillBytes(final ByteBuffer buffer, final int length) {
+        for (int i = 0; i < length; ) {
+            long word = randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            for (final int wordEnd = Math.min(i + Long.BYTES, length); i < wordEnd; i++, word <<= Byte.SIZE) {
+                buffer.put((byte) (word >>> 56));
+            }
+        }
+    }
 }
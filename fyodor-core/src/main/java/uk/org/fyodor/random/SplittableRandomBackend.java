@@ -0,0 +1,30 @@
+package uk.org.fyodor.random;
+
+import java.util.SplittableRandom;
+
+final class SplittableRandomBackend extends LongSourcedRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private SplittableRandom splittableRandom;
+
+    @Override
+    void reseed(final long seed) {
+        splittableRandom = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return splittableRandom.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return splittableRandom.nextInt();
+    }
+
+    @Override
+    public double nextDouble() {
+        return splittableRandom.nextDouble();
+    }
+}
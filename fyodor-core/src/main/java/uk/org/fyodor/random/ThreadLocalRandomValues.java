@@ -0,0 +1,89 @@
+package uk.org.fyodor.random;
+
+import java.nio.ByteBuffer;
+
+final class ThreadLocalRandomValues implements RandomValues {
+
+    private static final RandomValues instance = new ThreadLocalRandomValues();
+
+    private ThreadLocalRandomValues() {
+    }
+
+    static RandomValues instance() {
+        return instance;
+    }
+
+    @Override
+    public boolean randomBoolean() {
+        return current().randomBoolean();
+    }
+
+    @Override
+    public int randomInteger(final int lower, final int upper) {
+        return current().randomInteger(lower, upper);
+    }
+
+    @Override
+    public long randomLong(final long lower, final long upper) {
+        return current().randomLong(lower, upper);
+    }
+
+    @Override
+    public double randomDouble(final double lower, final double upper) {
+        return current().randomDouble(lower, upper);
+    }
+
+    @Override
+    public double randomDouble(final double lower, final double upper, final int scale) {
+        return current().randomDouble(lower, upper, scale);
+    }
+
+    @Override
+    public byte randomByte(final byte lower, final byte upper) {
+        return current().randomByte(lower, upper);
+    }
+
+    @Override
+    public byte[] randomBytes(final int length) {
+        return current().randomBytes(length);
+    }
+
+    @Override
+    public short randomShort(final short lower, final short upper) {
+        return current().randomShort(lower, upper);
+    }
+
+    @Override
+    public void fillIntegers(final int[] integers, final int lower, final int upper) {
+        current().fillIntegers(integers, lower, upper);
+    }
+
+    @Override
+    public void fillLongs(final long[] longs, final long lower, final long upper) {
+        current().fillLongs(longs, lower, upper);
+    }
+
+    @Override
+    public void fillDoubles(final double[] doubles, final double lower, final double upper) {
+        current().fillDoubles(doubles, lower, upper);
+    }
+
+    @Override
+    public void fillBooleans(final boolean[] booleans) {
+        current().fillBooleans(booleans);
+    }
+
+    @Override
+    public void fillBytes(final byte[] bytes, final int offset, final int length) {
+        current().fillBytes(bytes, offset, length);
+    }
+
+    @Override
+    public void fillBytes(final ByteBuffer buffer, final int length) {
+        current().fillBytes(buffer, length);
+    }
+
+    private static RandomValues current() {
+        return RandomSourceProvider.seed().randomValues();
+    }
+}
@@ -0,0 +1,39 @@
+package uk.org.fyodor.random;
+
+import static java.lang.Long.rotateLeft;
+import static uk.org.fyodor.random.SplitMix64.GOLDEN_GAMMA;
+import static uk.org.fyodor.random.SplitMix64.mix64;
+
+/*
+xoroshiro128++ 1.0 by David Blackman and Sebastiano Vigna, see http://prng.di.unimi.it/xoroshiro128plusplus.c
+The 128 bits of state are expanded from the 64-bit seed with SplitMix64, as recommended by the authors.
+ */
+final class Xoroshiro128PlusPlusRandom extends LongSourcedRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private long s0;
+    private long s1;
+
+    @Override
+    void reseed(final long seed) {
+        s0 = mix64(seed + GOLDEN_GAMMA);
+        s1 = mix64(seed + 2 * GOLDEN_GAMMA);
+        if ((s0 | s1) == 0) {
+            s0 = GOLDEN_GAMMA;
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        final long q0 = s0;
+        long q1 = s1;
+        final long result = rotateLeft(q0 + q1, 17) + q0;
+
+        q1 ^= q0;
+        s0 = rotateLeft(q0, 49) ^ q1 ^ (q1 << 21);
+        s1 = rotateLeft(q1, 28);
+
+        return result;
+    }
+}
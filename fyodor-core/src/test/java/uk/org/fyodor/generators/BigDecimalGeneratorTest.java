@@ -91,6 +91,39 @@ public final class BigDecimalGeneratorTest extends BaseTest {
                 .hasSize(100);
     }
 
+    @Test
+    public void generatesBigDecimalsWithTheRequestedScale() {
+        assertThat(from(RDG.bigDecimal(closed(ZERO, TEN), 3)).sample(1000).map(BigDecimal::scale).unique())
+                .containsOnly(3);
+    }
+
+    @Test
+    public void generatesBigDecimalsWithMorePrecisionThanADouble() {
+        final BigDecimal lowerBound = new BigDecimal("12345678901234567890.123456");
+        final BigDecimal upperBound = new BigDecimal("12345678901234567890.123459");
+
+        assertThat(from(RDG.bigDecimal(closed(lowerBound, upperBound), 6)).sample(1000).unique())
+                .containsOnly(
+                        new BigDecimal("12345678901234567890.123456"),
+                        new BigDecimal("12345678901234567890.123457"),
+                        new BigDecimal("12345678901234567890.123458"),
+                        new BigDecimal("12345678901234567890.123459"));
+    }
+
+    @Test
+    public void generatesBigDecimalsWithinRangesThatAreNotAlignedToTheScale() {
+        final BigDecimal lowerBound = new BigDecimal("-0.015");
+        final BigDecimal upperBound = new BigDecimal("0.015");
+
+        assertThat(from(RDG.bigDecimal(closed(lowerBound, upperBound), 2)).sample(1000).unique())
+                .containsOnly(new BigDecimal("-0.01"), new BigDecimal("0.00"), new BigDecimal("0.01"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeMustContainAValueWithTheRequestedScale() {
+        RDG.bigDecimal(closed(new BigDecimal("0.001"), new BigDecimal("0.009")), 2);
+    }
+
     private static Sampler.Sample<Integer> decimalPartsOnly(final Sampler.Sample<BigDecimal> sample) {
         final LinkedList<Integer> decimalParts = new LinkedList<>();
         for (final BigDecimal bigDecimal : sample) {
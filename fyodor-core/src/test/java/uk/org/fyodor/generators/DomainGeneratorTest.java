@@ -1,9 +1,12 @@
 package uk.org.fyodor.generators;
 
+import org.assertj.core.api.Condition;
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.range.Range;
 
 import static uk.org.fyodor.FyodorAssertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
 
 public class DomainGeneratorTest extends BaseTest {
 
@@ -18,4 +21,16 @@ public class DomainGeneratorTest extends BaseTest {
             assertThat(domain.endsWith("-")).isFalse();
         }
     }
+
+    @Test
+    public void hyphensOnlyAppearInsideTheDomain() {
+        assertThat(from(RDG.domain(Range.closed(1, 3))).sample(10000).unique())
+                .allMatch(domain -> domain.matches("[a-zA-Z0-9]([a-zA-Z0-9-]?[a-zA-Z0-9])?"))
+                .areAtLeastOne(new Condition<>(domain -> domain.contains("-"), "containing a hyphen"));
+    }
+
+    @Test
+    public void emptyDomainsCanBeGenerated() {
+        assertThat(RDG.domain(Range.closed(0, 0)).next()).isEmpty();
+    }
 }
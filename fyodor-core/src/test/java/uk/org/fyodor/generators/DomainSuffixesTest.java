@@ -0,0 +1,86 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+
+public final class DomainSuffixesTest extends BaseTest {
+
+    @Test
+    public void allSuffixesAreSharedAndDeduplicated() {
+        final DomainSuffixes all = DomainSuffixes.all();
+
+        assertThat(DomainSuffixes.all()).isSameAs(all);
+        assertThat(new HashSet<>(Arrays.asList(all.toArray()))).hasSize(all.size());
+        assertThat(all.toArray()).contains("co.uk", "com", "ac");
+    }
+
+    @Test
+    public void exceptionRulesAreNotSuffixes() {
+        assertThat(DomainSuffixes.all().toArray()).allMatch(s -> !s.startsWith("!"));
+    }
+
+    @Test
+    public void filterByTopLevelDomain() {
+        final DomainSuffixes uk = DomainSuffixes.all().topLevelDomain("UK");
+
+        assertThat(uk.isEmpty()).isFalse();
+        assertThat(uk.toArray()).allMatch(s -> s.equals("uk") || s.endsWith(".uk")).contains("uk", "co.uk");
+    }
+
+    @Test
+    public void genericAndCountryCodeSuffixesPartitionTheTable() {
+        final DomainSuffixes all = DomainSuffixes.all();
+        final DomainSuffixes generic = all.generic();
+        final DomainSuffixes countryCode = all.countryCode();
+
+        assertThat(generic.size() + countryCode.size()).isEqualTo(all.size());
+        assertThat(countryCode.toArray()).allMatch(s -> s.matches("(.*\\.)?[a-z]{2}")).contains("co.uk");
+        assertThat(generic.toArray()).contains("com", "aero").doesNotContain("co.uk");
+    }
+
+    @Test
+    public void filtersCanBeCombined() {
+        assertThat(DomainSuffixes.all().icann().countryCode().topLevelDomain("uk").toArray())
+                .containsExactlyInAnyOrder(DomainSuffixes.all().topLevelDomain("uk").toArray());
+        assertThat(DomainSuffixes.all().generic().topLevelDomain("uk").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void arraysFollowTheIndexOrderOfTheView() {
+        final DomainSuffixes countryCode = DomainSuffixes.all().countryCode();
+
+        final String[] suffixes = countryCode.toArray();
+        assertThat(suffixes).hasSize(countryCode.size());
+        for (int i = 0; i < suffixes.length; i++) {
+            assertThat(suffixes[i]).isEqualTo(countryCode.get(i));
+        }
+    }
+
+    @Test
+    public void theBundledSuffixesAreAllIcannDelegated() {
+        assertThat(DomainSuffixes.all().icann().size()).isEqualTo(DomainSuffixes.all().size());
+        assertThat(DomainSuffixes.all().privatelyRegistered().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void generateSuffixesFromAFilteredView() {
+        assertThat(from(RDG.domainSuffix(DomainSuffixes.all().topLevelDomain("uk"))).sample(1000).unique())
+                .allMatch(s -> s.endsWith("uk"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotGenerateFromAnEmptyView() {
+        RDG.domainSuffix(DomainSuffixes.all().topLevelDomain("nope"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexMustBeWithinTheView() {
+        DomainSuffixes.all().get(DomainSuffixes.all().size());
+    }
+}
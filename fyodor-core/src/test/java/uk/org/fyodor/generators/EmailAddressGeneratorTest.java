@@ -3,9 +3,17 @@ package uk.org.fyodor.generators;
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class EmailAddressGeneratorTest extends BaseTest {
 
-    Generator<String> generator = RDG.emailAddress();
+    TextGenerator generator = RDG.emailAddress();
 
     @Test
     public void checkoutEmailAddresses(){
@@ -16,4 +24,48 @@ public class EmailAddressGeneratorTest extends BaseTest {
             print(emailAddress);
         }
     }
+
+    @Test
+    public void emailAddressesAreAppendedAfterExistingContent() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            final int start = builder.length();
+            generator.appendTo(builder);
+            builder.append(',');
+
+            final String emailAddress = builder.substring(start, builder.length() - 1);
+            assertThat(emailAddress).matches("[^@]{3,50}@[^@]{5,40}\\..+");
+        }
+        assertThat(builder.toString().split(",")).hasSize(100);
+    }
+
+    @Test
+    public void emailAddressesCanBeWrittenToAnAppendable() {
+        final StringWriter writer = new StringWriter();
+        generator.appendTo(writer);
+
+        assertThat(writer.toString()).contains("@");
+    }
+
+    @Test
+    public void ioExceptionsFromAnAppendableAreRethrownUnchecked() {
+        final Writer failingWriter = new Writer() {
+            @Override
+            public void write(final char[] chars, final int offset, final int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> generator.appendTo(failingWriter))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseInstanceOf(IOException.class);
+    }
 }
@@ -4,6 +4,7 @@ import org.junit.Test;
 import uk.org.fyodor.BaseTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 public class EmailLocalPartGeneratorTest extends BaseTest {
 
@@ -19,4 +20,29 @@ public class EmailLocalPartGeneratorTest extends BaseTest {
             assertThat(localPart.endsWith(".")).isFalse();
         }
     }
+
+    @Test
+    public void dotsAreAsLikelyAsInAUniformChoiceOfValidLocalParts() {
+        final EmailLocalPartGenerator generator = new EmailLocalPartGenerator(3);
+
+        int dots = 0;
+        for (int i = 0; i < 100000; i++) {
+            final String localPart = generator.next();
+            assertThat(localPart).hasSize(3).doesNotStartWith(".").doesNotEndWith(".");
+            if (localPart.charAt(1) == '.') {
+                dots++;
+            }
+        }
+
+        /* the middle character is any one of the 81 other characters or a dot */
+        assertThat(dots / 100000.0).isCloseTo(1 / 82.0, within(0.002));
+    }
+
+    @Test
+    public void singleCharacterLocalPartsAreNeverDots() {
+        final EmailLocalPartGenerator generator = new EmailLocalPartGenerator(1);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(generator.next()).isNotEqualTo(".");
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class GeneratorTest extends BaseTest {
+
+    @Test
+    public void fillsArrayWithGeneratedValues() {
+        final String[] strings = new String[3];
+        RDG.value("a").fill(strings);
+        assertThat(strings).containsExactly("a", "a", "a");
+    }
+
+    @Test
+    public void generatesListOfSize() {
+        final List<Integer> integers = RDG.integer(closed(1, 3)).toList(1000);
+        assertThat(integers)
+                .hasSize(1000)
+                .containsOnly(1, 2, 3);
+    }
+
+    @Test
+    public void listAndArrayContainTheSameValuesForTheSameSeed() {
+        final Generator<Long> generator = RDG.longVal();
+
+        seed().next(1234L);
+        final List<Long> longs = generator.toList(100);
+        seed().previous();
+
+        seed().next(1234L);
+        final Long[] arrayOfLongs = new Long[100];
+        generator.fill(arrayOfLongs);
+        seed().previous();
+
+        assertThat(arrayOfLongs).containsExactlyElementsOf(longs);
+    }
+
+    @Test
+    public void primitiveAndBoxedValuesAreTheSameForTheSameSeed() {
+        final IntGenerator integers = RDG.integer(closed(-100, 100));
+        final LongGenerator longs = RDG.longVal();
+        final DoubleGenerator doubles = RDG.doubleVal(10.0);
+        final BooleanGenerator booleans = RDG.bool();
+
+        seed().next(5678L);
+        final int primitiveInt = integers.nextInt();
+        final long primitiveLong = longs.nextLong();
+        final double primitiveDouble = doubles.nextDouble();
+        final boolean primitiveBoolean = booleans.nextBoolean();
+        seed().previous();
+
+        seed().next(5678L);
+        assertThat(integers.next()).isEqualTo(primitiveInt);
+        assertThat(longs.next()).isEqualTo(primitiveLong);
+        assertThat(doubles.next()).isEqualTo(primitiveDouble);
+        assertThat(booleans.next()).isEqualTo(primitiveBoolean);
+        seed().previous();
+    }
+
+    @Test
+    public void primitiveGeneratorsCanBeLambdas() {
+        final IntGenerator sevens = () -> 7;
+        assertThat(sevens.toList(3)).containsExactly(7, 7, 7);
+    }
+
+    @Test
+    public void streamsTheRequestedNumberOfValues() {
+        assertThat(RDG.integer(closed(1, 3)).stream(5000).collect(toList()))
+                .hasSize(5000)
+                .containsOnly(1, 2, 3);
+    }
+
+    @Test
+    public void infiniteStreamsCanBeLimited() {
+        assertThat(RDG.string(5).stream().limit(3).collect(toList())).hasSize(3);
+    }
+
+    @Test
+    public void takingTheFirstValueOfAStreamGeneratesOnlyThatValue() {
+        final AtomicInteger generated = new AtomicInteger();
+        final Generator<List<Integer>> lists = () -> {
+            generated.incrementAndGet();
+            return RDG.list(RDG.integer()).next();
+        };
+
+        assertThat(lists.stream().findFirst()).isPresent();
+        assertThat(lists.stream(5000).limit(1).collect(toList())).hasSize(1);
+        assertThat(generated.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void sequentialAndParallelStreamsContainTheSameValuesForTheSameSeed() {
+        final Generator<String> generator = RDG.string(10);
+
+        seed().next(2468L);
+        final List<String> sequential = generator.stream(10000).collect(toList());
+        seed().previous();
+
+        seed().next(2468L);
+        final List<String> parallel = generator.stream(10000).parallel().collect(toList());
+        seed().previous();
+
+        seed().next(2468L);
+        final List<String> limited = generator.stream().parallel().limit(10000).collect(toList());
+        seed().previous();
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(limited).isEqualTo(sequential);
+    }
+
+    @Test
+    public void primitiveStreamsContainTheSameValuesSequentiallyAndInParallel() {
+        seed().next(1357L);
+        final int[] sequentialInts = RDG.integer(closed(-5, 5)).intStream(5000).toArray();
+        final long[] sequentialLongs = RDG.longVal(100L).longStream(5000).toArray();
+        final double[] sequentialDoubles = RDG.doubleVal(1.0).doubleStream(5000).toArray();
+        seed().previous();
+
+        seed().next(1357L);
+        final int[] parallelInts = RDG.integer(closed(-5, 5)).intStream(5000).parallel().toArray();
+        final long[] parallelLongs = RDG.longVal(100L).longStream(5000).parallel().toArray();
+        final double[] parallelDoubles = RDG.doubleVal(1.0).doubleStream(5000).parallel().toArray();
+        seed().previous();
+
+        assertThat(sequentialInts).hasSize(5000).containsOnly(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5).isEqualTo(parallelInts);
+        assertThat(sequentialLongs).hasSize(5000).isEqualTo(parallelLongs);
+        assertThat(sequentialDoubles).hasSize(5000).isEqualTo(parallelDoubles);
+    }
+
+    @Test
+    public void streamsAreSizedAndSplitIntoSizedParts() {
+        final Spliterator<Integer> spliterator = RDG.integer().stream(5000).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5000);
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo(5000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streamSizeCannotBeNegative() {
+        RDG.integer().stream(-1);
+    }
+
+    @Test
+    public void mapsGeneratedValues() {
+        assertThat(RDG.integer(closed(1, 3)).map(i -> i * 10).map(String::valueOf).toList(1000))
+                .hasSize(1000)
+                .containsOnly("10", "20", "30");
+    }
+
+    @Test
+    public void mappingKeepsTheSequenceOfTheUnderlyingGenerator() {
+        final Generator<Long> generator = RDG.longVal();
+
+        seed().next(97531L);
+        final List<Long> longs = generator.toList(100);
+        seed().previous();
+
+        seed().next(97531L);
+        final List<String> mapped = generator.map(l -> l + 1).map(String::valueOf).toList(100);
+        seed().previous();
+
+        assertThat(mapped).isEqualTo(longs.stream().map(l -> String.valueOf(l + 1)).collect(toList()));
+    }
+
+    @Test
+    public void filtersGeneratedValues() {
+        assertThat(RDG.integer(closed(1, 10)).filter(i -> i % 2 == 0).filter(i -> i > 4).toList(1000))
+                .hasSize(1000)
+                .containsOnly(6, 8, 10);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failsWhenTheFilterRejectsTooManyValues() {
+        RDG.integer(closed(1, 10)).filter(i -> i > 10, 50).next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void filterAttemptsMustBePositive() {
+        RDG.integer().filter(i -> true, 0);
+    }
+
+    @Test
+    public void zipsGeneratedValues() {
+        assertThat(RDG.value("a", "b").zip(RDG.integer(closed(1, 2)), (s, i) -> s + i).toList(1000))
+                .hasSize(1000)
+                .containsOnly("a1", "a2", "b1", "b2");
+    }
+
+    @Test
+    public void flatMapsGeneratedValues() {
+        assertThat(RDG.integer(closed(1, 3)).flatMap(RDG::string).toList(1000))
+                .extracting(String::length)
+                .containsOnly(1, 2, 3);
+    }
+}
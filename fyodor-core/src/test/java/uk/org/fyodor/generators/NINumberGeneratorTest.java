@@ -5,7 +5,10 @@ import uk.org.fyodor.BaseTest;
 
 import java.util.regex.Pattern;
 
+import static java.util.stream.Collectors.toSet;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
 
 public class NINumberGeneratorTest extends BaseTest {
 
@@ -20,4 +23,11 @@ public class NINumberGeneratorTest extends BaseTest {
             assertThat(niNumberPattern.matcher(niNumber).matches()).isTrue();
         }
     }
+
+    @Test
+    public void everyValidPrefixIsGenerated() {
+        assertThat(from(RDG.niNumber()).sample(100000).unique().stream().map(niNumber -> niNumber.substring(0, 2)).collect(toSet()))
+                .hasSize(373)
+                .doesNotContain("BG", "GB", "NK", "KN", "TN", "NT", "ZZ");
+    }
 }
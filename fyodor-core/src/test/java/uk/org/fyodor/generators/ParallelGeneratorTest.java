@@ -0,0 +1,129 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.random.RandomBackends;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.random.RandomSourceProvider.threadLocalSourceOfRandomness;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class ParallelGeneratorTest extends BaseTest {
+
+    private static final int SIZE = 100000;
+
+    @Test
+    public void generatesTheSameListRegardlessOfTheNumberOfThreads() throws Exception {
+        final List<String> singleThreaded = seeded(1, 42, () -> RDG.string(10).parallel().toList(SIZE));
+        final List<String> multiThreaded = seeded(8, 42, () -> RDG.string(10).parallel().toList(SIZE));
+
+        assertThat(singleThreaded)
+                .hasSize(SIZE)
+                .isEqualTo(multiThreaded);
+    }
+
+    @Test
+    public void fillsTheSameArrayRegardlessOfTheNumberOfThreads() throws Exception {
+        final Integer[] singleThreaded = seeded(1, 42, () -> {
+            final Integer[] integers = new Integer[SIZE];
+            RDG.integer(closed(0, 1000)).parallel().fill(integers);
+            return integers;
+        });
+        final Integer[] multiThreaded = seeded(8, 42, () -> {
+            final Integer[] integers = new Integer[SIZE];
+            RDG.integer(closed(0, 1000)).parallel().fill(integers);
+            return integers;
+        });
+
+        assertThat(singleThreaded)
+                .doesNotContainNull()
+                .isEqualTo(multiThreaded);
+    }
+
+    @Test
+    public void streamsTheSameValuesAsTheListForTheSameSeed() throws Exception {
+        final List<Long> list = seeded(8, 7, () -> RDG.longVal().parallel().toList(SIZE));
+        final List<Long> streamed = seeded(3, 7, () -> RDG.longVal().parallel().stream(SIZE).collect(toList()));
+
+        assertThat(streamed).isEqualTo(list);
+    }
+
+    @Test
+    public void honoursTheBackendOfTheCallingThread() throws Exception {
+        final List<Double> jdk = seeded(4, 7, () -> RDG.doubleVal().parallel().toList(SIZE));
+        final List<Double> xoroshiro = seeded(4, 7, () -> {
+            seed().use(RandomBackends.Xoroshiro128PlusPlus);
+            try {
+                return RDG.doubleVal().parallel().toList(SIZE);
+            } finally {
+                seed().use(RandomBackends.JdkRandom);
+            }
+        });
+        final List<Double> xoroshiroAgain = seeded(2, 7, () -> {
+            seed().use(RandomBackends.Xoroshiro128PlusPlus);
+            try {
+                return RDG.doubleVal().parallel().toList(SIZE);
+            } finally {
+                seed().use(RandomBackends.JdkRandom);
+            }
+        });
+
+        assertThat(xoroshiro)
+                .isNotEqualTo(jdk)
+                .isEqualTo(xoroshiroAgain);
+    }
+
+    @Test
+    public void consecutiveParallelGenerationsProduceDifferentValues() {
+        final Generator<Integer> generator = RDG.integer();
+
+        assertThat(generator.parallel().toList(SIZE)).isNotEqualTo(generator.parallel().toList(SIZE));
+    }
+
+    @Test
+    public void onlyConsumesASingleValueFromTheCallingThread() throws Exception {
+        final Integer afterParallelGeneration = seeded(4, 99, () -> {
+            RDG.string(5).parallel().toList(SIZE);
+            return RDG.integer().next();
+        });
+        final Integer afterSingleDraw = seeded(1, 99, () -> {
+            threadLocalSourceOfRandomness().randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            return RDG.integer().next();
+        });
+
+        assertThat(afterParallelGeneration).isEqualTo(afterSingleDraw);
+    }
+
+    @Test
+    public void generatesEmptyList() {
+        assertThat(RDG.integer().parallel().toList(0)).isEmpty();
+        assertThat(RDG.integer().parallel().stream(0)).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeCannotBeNegative() {
+        RDG.integer().parallel().toList(-1);
+    }
+
+    private static <T> T seeded(final int parallelism, final long seed, final Callable<T> callable) throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> {
+                seed().next(seed);
+                try {
+                    return callable.call();
+                } finally {
+                    seed().previous();
+                }
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.characters.CodePointSet;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class PayloadGeneratorTest extends BaseTest {
+
+    private static final CodePointSet MIXED_WIDTHS = CodePointSet.range('a', 'z')
+            .union(CodePointSet.range(0x00C0, 0x00FF))
+            .union(CodePointSet.range(0x4E00, 0x4E20))
+            .union(CodePointSet.block(Character.UnicodeBlock.EMOTICONS));
+
+    @Test
+    public void generatesByteArraysOfTheConfiguredSizes() {
+        assertThat(from(RDG.byteArray(closed(3, 17))).sample(1000).map(bytes -> bytes.length).unique())
+                .containsOnly(3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17);
+    }
+
+    @Test
+    public void writesBytesIntoHeapAndDirectBuffersAlike() {
+        final PayloadGenerator generator = RDG.byteArray(closed(100, 100));
+
+        seed().next(4321L);
+        final ByteBuffer heap = ByteBuffer.allocate(150);
+        assertThat(generator.next(heap)).isEqualTo(100);
+        assertThat(generator.next(heap)).isEqualTo(50);
+        seed().previous();
+
+        seed().next(4321L);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(150);
+        generator.next(direct);
+        generator.next(direct);
+        seed().previous();
+
+        heap.flip();
+        direct.flip();
+        assertThat(direct).isEqualTo(heap);
+    }
+
+    @Test
+    public void writesOnlyWithinTheRegion() {
+        final byte[] bytes = new byte[100];
+        assertThat(RDG.byteArray(closed(1000, 1000)).next(bytes, 10, 20)).isEqualTo(20);
+        assertThat(RDG.byteArray(closed(0, 0)).fill(bytes, 40, 50)).isEqualTo(50);
+
+        assertThat(Arrays.copyOfRange(bytes, 0, 10)).containsOnly((byte) 0);
+        assertThat(Arrays.copyOfRange(bytes, 30, 40)).containsOnly((byte) 0);
+        assertThat(Arrays.copyOfRange(bytes, 90, 100)).containsOnly((byte) 0);
+    }
+
+    @Test
+    public void fillsBuffers() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+        assertThat(RDG.byteArray(closed(1, 10)).fill(buffer)).isEqualTo(1 << 16);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void generatesValidUtf8Text() throws CharacterCodingException {
+        final PayloadGenerator generator = RDG.utf8Text(closed(0, 50), MIXED_WIDTHS);
+        for (int i = 0; i < 1000; i++) {
+            final String text = decode(ByteBuffer.wrap(generator.next()));
+            assertThat(text.codePointCount(0, text.length())).isBetween(0, 50);
+            assertThat(text.codePoints().allMatch(MIXED_WIDTHS::contains)).isTrue();
+        }
+    }
+
+    @Test
+    public void textWrittenToBuffersIsTheSameAsTheGeneratedArrays() {
+        final PayloadGenerator generator = RDG.utf8Text(closed(20, 20), MIXED_WIDTHS);
+
+        seed().next(8765L);
+        final byte[] first = generator.next();
+        final byte[] second = generator.next();
+        seed().previous();
+
+        seed().next(8765L);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(first.length + second.length);
+        generator.next(direct);
+        generator.next(direct);
+        seed().previous();
+
+        direct.flip();
+        final ByteBuffer expected = ByteBuffer.allocate(first.length + second.length).put(first).put(second);
+        expected.flip();
+        assertThat(direct).isEqualTo(expected);
+    }
+
+    @Test
+    public void fillsBuffersWithWholeCodePoints() throws CharacterCodingException {
+        final ByteBuffer buffer = ByteBuffer.allocate(100001);
+        final int written = RDG.utf8Text(closed(1, 1), MIXED_WIDTHS).fill(buffer);
+
+        assertThat(written).isBetween(100001 - 3, 100001);
+        buffer.flip();
+        assertThat(decode(buffer).codePoints().allMatch(MIXED_WIDTHS::contains)).isTrue();
+    }
+
+    private static String decode(final ByteBuffer buffer) throws CharacterCodingException {
+        return UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(buffer)
+                .toString();
+    }
+}
@@ -26,4 +26,15 @@ public class PostcodeGeneratorTest extends BaseTest {
             assertThat(pattern.matcher(postcode).matches()).isTrue();
         }
     }
+
+    @Test
+    public void postcodesAreAppendedToASharedBuilder() {
+        TextGenerator postcodeGenerator = RDG.postcode();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.setLength(0);
+            postcodeGenerator.appendTo(builder);
+            assertThat(pattern.matcher(builder).matches()).isTrue();
+        }
+    }
 }
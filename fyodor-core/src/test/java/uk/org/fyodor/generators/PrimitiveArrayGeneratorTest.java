@@ -0,0 +1,102 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.characters.CharacterClass;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.range.Range.closed;
+import static uk.org.fyodor.range.Range.fixed;
+
+public final class PrimitiveArrayGeneratorTest extends BaseTest {
+
+    @Test
+    public void intArraysHaveValuesWithinTheRange() {
+        final int[] ints = RDG.intArray(fixed(10000), closed(-3, 3)).next();
+
+        assertThat(ints).hasSize(10000).contains(-3, -2, -1, 0, 1, 2, 3);
+        assertThat(Arrays.stream(ints).allMatch(i -> i >= -3 && i <= 3)).isTrue();
+    }
+
+    @Test
+    public void arraySizesAreWithinTheSizeRange() {
+        assertThat(from(RDG.intArray(closed(0, 3), closed(0, 1))).sample(1000).unique())
+                .extracting(ints -> ints.length)
+                .containsOnly(0, 1, 2, 3);
+    }
+
+    @Test
+    public void longArraysHaveValuesWithinTheRange() {
+        final long[] longs = RDG.longArray(fixed(10000), closed(Long.MAX_VALUE - 2, Long.MAX_VALUE)).next();
+
+        assertThat(longs).contains(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        assertThat(Arrays.stream(longs).allMatch(l -> l >= Long.MAX_VALUE - 2)).isTrue();
+    }
+
+    @Test
+    public void doubleArraysHaveValuesWithinTheRange() {
+        final double[] doubles = RDG.doubleArray(fixed(10000), closed(-1.0, 1.0)).next();
+
+        assertThat(Arrays.stream(doubles).allMatch(d -> d >= -1.0 && d <= 1.0)).isTrue();
+        assertThat(Arrays.stream(doubles).average().getAsDouble()).isCloseTo(0.0, within(0.05));
+    }
+
+    @Test
+    public void gaussianDoubleArraysHaveTheRequestedMeanAndStandardDeviation() {
+        final double[] doubles = RDG.gaussianDoubleArray(fixed(100001), 10.0, 2.0).next();
+
+        final double mean = Arrays.stream(doubles).average().getAsDouble();
+        final double variance = Arrays.stream(doubles).map(d -> (d - mean) * (d - mean)).sum() / doubles.length;
+
+        assertThat(doubles).hasSize(100001);
+        assertThat(mean).isCloseTo(10.0, within(0.05));
+        assertThat(Math.sqrt(variance)).isCloseTo(2.0, within(0.05));
+    }
+
+    @Test
+    public void floatArraysHaveValuesWithinTheRange() {
+        final float[] floats = RDG.floatArray(fixed(5000), closed(1.5f, 2.5f)).next();
+
+        assertThat(floats).hasSize(5000);
+        for (final float f : floats) {
+            assertThat(f).isBetween(1.5f, 2.5f);
+        }
+    }
+
+    @Test
+    public void shortArraysHaveValuesWithinTheRange() {
+        final short[] shorts = RDG.shortArray(fixed(5000), closed(-2, 2)).next();
+
+        assertThat(shorts).hasSize(5000).containsOnly((short) -2, (short) -1, (short) 0, (short) 1, (short) 2);
+    }
+
+    @Test
+    public void charArraysUseTheCharacterClass() {
+        assertThat(RDG.charArray(fixed(5000), CharacterClass.of("xyz")).next()).hasSize(5000).containsOnly('x', 'y', 'z');
+        assertThat(RDG.charArray(fixed(3), CharacterClass.of("q")).next()).containsExactly('q', 'q', 'q');
+    }
+
+    @Test
+    public void booleanArraysContainBothValues() {
+        assertThat(RDG.booleanArray(fixed(1000)).next()).hasSize(1000).contains(true, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeCannotBeNegative() {
+        RDG.intArray(closed(-1, 1), closed(0, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortValuesMustFitInAShort() {
+        RDG.shortArray(fixed(1), closed(0, Short.MAX_VALUE + 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void standardDeviationCannotBeNegative() {
+        RDG.gaussianDoubleArray(fixed(1), 0.0, -1.0);
+    }
+}
@@ -0,0 +1,159 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.generators.SortOrder.NON_DECREASING;
+import static uk.org.fyodor.generators.SortOrder.STRICTLY_INCREASING;
+import static uk.org.fyodor.range.Range.closed;
+import static uk.org.fyodor.range.Range.fixed;
+
+public final class SortedArrayGeneratorTest extends BaseTest {
+
+    @Test
+    public void nonDecreasingIntsAreSortedAndCoverTheRange() {
+        final int[] ints = RDG.sortedIntArray(fixed(10000), closed(-3, 3), NON_DECREASING).next();
+
+        assertThat(ints).hasSize(10000).isSorted().contains(-3, -2, -1, 0, 1, 2, 3);
+        assertThat(Arrays.stream(ints).allMatch(i -> i >= -3 && i <= 3)).isTrue();
+    }
+
+    @Test
+    public void nonDecreasingIntsAreUniformlyDistributed() {
+        final int[] ints = RDG.sortedIntArray(fixed(100000), closed(0, 9), NON_DECREASING).next();
+
+        final int[] counts = new int[10];
+        Arrays.stream(ints).forEach(i -> counts[i]++);
+        assertThat(Arrays.stream(counts).allMatch(c -> Math.abs(c - 10000) < 500)).isTrue();
+    }
+
+    @Test
+    public void strictlyIncreasingIntsAreDistinct() {
+        final int[] ints = RDG.sortedIntArray(fixed(10000), closed(0, 1000000), STRICTLY_INCREASING).next();
+
+        assertThat(ints).hasSize(10000);
+        for (int i = 1; i < ints.length; i++) {
+            assertThat(ints[i]).isGreaterThan(ints[i - 1]);
+        }
+    }
+
+    @Test
+    public void strictlyIncreasingIntsCanFillTheWholeRange() {
+        final int[] ints = RDG.sortedIntArray(fixed(11), closed(-5, 5), STRICTLY_INCREASING).next();
+
+        assertThat(ints).containsExactly(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void strictlyIncreasingIntsFromADenseRangeAreAUniformSubset() {
+        final int[] counts = new int[10];
+        for (int i = 0; i < 10000; i++) {
+            final int[] ints = RDG.sortedIntArray(fixed(5), closed(0, 9), STRICTLY_INCREASING).next();
+            for (int j = 0; j < ints.length; j++) {
+                assertThat(j == 0 || ints[j] > ints[j - 1]).isTrue();
+                counts[ints[j]]++;
+            }
+        }
+
+        assertThat(Arrays.stream(counts).allMatch(c -> Math.abs(c - 5000) < 300)).isTrue();
+    }
+
+    @Test
+    public void longsAreSortedAcrossTheFullRange() {
+        final long[] nonDecreasing = RDG.sortedLongArray(fixed(10000), closed(Long.MIN_VALUE, Long.MAX_VALUE), NON_DECREASING).next();
+        final long[] strictlyIncreasing = RDG.sortedLongArray(fixed(10000), closed(Long.MIN_VALUE, Long.MAX_VALUE), STRICTLY_INCREASING).next();
+
+        assertThat(nonDecreasing).isSorted();
+        assertThat(nonDecreasing[0]).isNegative();
+        assertThat(nonDecreasing[nonDecreasing.length - 1]).isPositive();
+        for (int i = 1; i < strictlyIncreasing.length; i++) {
+            assertThat(strictlyIncreasing[i]).isGreaterThan(strictlyIncreasing[i - 1]);
+        }
+    }
+
+    @Test
+    public void longsStayWithinTheRange() {
+        final long[] longs = RDG.sortedLongArray(fixed(10000), closed(Long.MAX_VALUE - 2, Long.MAX_VALUE), NON_DECREASING).next();
+
+        assertThat(longs).isSorted().contains(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        assertThat(Arrays.stream(longs).allMatch(l -> l >= Long.MAX_VALUE - 2)).isTrue();
+    }
+
+    @Test
+    public void doublesAreSortedAndUniformlyDistributed() {
+        final double[] doubles = RDG.sortedDoubleArray(fixed(100000), closed(-1.0, 1.0), STRICTLY_INCREASING).next();
+
+        for (int i = 1; i < doubles.length; i++) {
+            assertThat(doubles[i]).isGreaterThan(doubles[i - 1]);
+        }
+        assertThat(doubles[0]).isGreaterThanOrEqualTo(-1.0);
+        assertThat(doubles[doubles.length - 1]).isLessThan(1.0);
+        assertThat(Arrays.stream(doubles).average().getAsDouble()).isCloseTo(0.0, within(0.01));
+        assertThat(doubles[doubles.length / 2]).isCloseTo(0.0, within(0.02));
+    }
+
+    @Test
+    public void doublesAreSortedAcrossTheWidestRange() {
+        final double[] doubles = RDG.sortedDoubleArray(fixed(1000), closed(-Double.MAX_VALUE, Double.MAX_VALUE), NON_DECREASING).next();
+
+        assertThat(doubles).isSorted();
+        assertThat(Arrays.stream(doubles).allMatch(Double::isFinite)).isTrue();
+    }
+
+    @Test
+    public void sortedInstantsAreWithinTheRange() {
+        final Instant lower = Instant.parse("2020-01-01T00:00:00Z");
+        final Instant upper = Instant.parse("2020-01-02T00:00:00Z");
+
+        final List<Instant> instants = RDG.sortedInstantList(fixed(1000), closed(lower, upper), STRICTLY_INCREASING).next();
+
+        assertThat(instants).hasSize(1000).isSorted().doesNotHaveDuplicates();
+        assertThat(instants).allMatch(i -> !i.isBefore(lower) && !i.isAfter(upper));
+    }
+
+    @Test
+    public void sortedLocalDatesAreWithinTheRange() {
+        final LocalDate lower = LocalDate.of(2020, 1, 1);
+        final LocalDate upper = LocalDate.of(2020, 12, 31);
+
+        final List<LocalDate> dates = RDG.sortedLocalDateList(fixed(1000), closed(lower, upper), NON_DECREASING).next();
+
+        assertThat(dates).hasSize(1000).isSorted();
+        assertThat(dates).allMatch(d -> !d.isBefore(lower) && !d.isAfter(upper));
+    }
+
+    @Test
+    public void sizesAreWithinTheSizeRange() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RDG.sortedIntArray(closed(0, 3), closed(0, 100), STRICTLY_INCREASING).next().length).isBetween(0, 3);
+        }
+    }
+
+    @Test
+    public void strictlyIncreasingArraysCanBeEmpty() {
+        assertThat(RDG.sortedIntArray(fixed(0), fixed(7), STRICTLY_INCREASING).next()).isEmpty();
+        assertThat(RDG.sortedLongArray(fixed(0), closed(Long.MIN_VALUE, Long.MAX_VALUE), STRICTLY_INCREASING).next()).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void strictlyIncreasingIntsCannotOutnumberTheRange() {
+        RDG.sortedIntArray(closed(0, 12), closed(-5, 5), STRICTLY_INCREASING);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void strictlyIncreasingDoublesNeedMoreThanOneValue() {
+        RDG.sortedDoubleArray(fixed(2), fixed(1.0), STRICTLY_INCREASING);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sortOrderCannotBeNull() {
+        RDG.sortedLongArray(fixed(2), closed(0L, 10L), null);
+    }
+}
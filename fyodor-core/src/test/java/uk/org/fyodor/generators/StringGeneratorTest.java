@@ -5,11 +5,15 @@ import com.google.common.collect.Multiset;
 import org.junit.Before;
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.characters.CharacterClass;
 import uk.org.fyodor.generators.characters.CharacterFilter;
+import uk.org.fyodor.generators.characters.CodePointSet;
 import uk.org.fyodor.generators.characters.LettersAndDigitsFilter;
 import uk.org.fyodor.generators.characters.LettersOnlyFilter;
 import uk.org.fyodor.generators.characters.NoDoubleQuotesFilter;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class StringGeneratorTest extends BaseTest {
@@ -49,6 +53,61 @@ public class StringGeneratorTest extends BaseTest {
         assertThat(chars.elementSet()).containsOnly('A', 'B', 'C', 'D', 'E', 'F', 'G');
     }
 
+    @Test
+    public void charactersAreEquallyLikelyWhenTheCharsetSizeIsNotAPowerOfTwo() {
+        final StringGenerator generator = new StringGenerator(1000, "abcde");
+        for (int i = 0; i < 100; i++) {
+            for (char c : generator.next().toCharArray()) {
+                chars.add(c);
+            }
+        }
+        for (char c : "abcde".toCharArray()) {
+            assertThat(chars.count(c)).isBetween(19000, 21000);
+        }
+    }
+
+    @Test
+    public void charactersOutsideLatin1() {
+        final StringGenerator generator = new StringGenerator(20, "\u0100\u4e2d\u00e9");
+        for (int i = 0; i < 1000; i++) {
+            final String val = generator.next();
+            assertThat(val).hasSize(20);
+            for (char c : val.toCharArray()) {
+                chars.add(c);
+            }
+        }
+        assertThat(chars.elementSet()).containsOnly('\u0100', '\u4e2d', '\u00e9');
+    }
+
+    @Test
+    public void singleCharacterCharset() {
+        assertThat(new StringGenerator(5, "x").next()).isEqualTo("xxxxx");
+        assertThat(new StringGenerator(5, "\u4e2d").next()).isEqualTo("\u4e2d\u4e2d\u4e2d\u4e2d\u4e2d");
+    }
+
+    @Test
+    public void characterClassAsCharset() {
+        final Generator<String> generator = RDG.string(10, CharacterClass.of("\u00e9\u4e2d").union(CharacterClass.of("z")));
+        for (int i = 0; i < 1000; i++) {
+            for (char c : generator.next().toCharArray()) {
+                chars.add(c);
+            }
+        }
+        assertThat(chars.elementSet()).containsOnly('\u00e9', '\u4e2d', 'z');
+    }
+
+    @Test
+    public void unicodeStringsAreMeasuredInCodePointsAndAreValidUtf16() {
+        final CodePointSet codePoints = CodePointSet.block(Character.UnicodeBlock.EMOTICONS).union(CodePointSet.range('a', 'z'));
+        final Generator<String> generator = RDG.unicodeString(20, codePoints);
+        for (int i = 0; i < 1000; i++) {
+            final String val = generator.next();
+            assertThat(val.codePointCount(0, val.length())).isEqualTo(20);
+            assertThat(val.codePoints().allMatch(codePoints::contains)).isTrue();
+            assertThat(new String(val.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)).isEqualTo(val);
+        }
+    }
+
     @Test
     public void cannotChangeCharset() {
         StringGenerator generator = new StringGenerator(SIZE_OF_RANDOM_STRING);
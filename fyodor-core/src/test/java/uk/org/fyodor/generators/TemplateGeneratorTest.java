@@ -0,0 +1,106 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+
+public final class TemplateGeneratorTest extends BaseTest {
+
+    @Test
+    public void expressionsAreReplacedWithCharactersFromTheirClass() {
+        assertThat(from(RDG.template("{upper:2}{digit:6}{oneOf:ABCD}")).sample(1000).unique())
+                .allMatch(s -> s.matches("[A-Z]{2}[0-9]{6}[ABCD]"));
+    }
+
+    @Test
+    public void literalTextIsCopied() {
+        assertThat(from(RDG.template("ORD-{digit:4}/{lower}")).sample(100).unique())
+                .allMatch(s -> s.matches("ORD-[0-9]{4}/[a-z]"));
+    }
+
+    @Test
+    public void countsCanBeRanges() {
+        assertThat(from(RDG.template("{hex:2-4}")).sample(1000).unique())
+                .allMatch(s -> s.matches("[0-9a-f]{2,4}"))
+                .extracting(String::length)
+                .contains(2, 3, 4);
+    }
+
+    @Test
+    public void oneOfCanRepeat() {
+        assertThat(from(RDG.template("{oneOf:xy:3}")).sample(1000).unique())
+                .hasSize(8)
+                .allMatch(s -> s.matches("[xy]{3}"));
+    }
+
+    @Test
+    public void everyCharacterOfAClassIsGenerated() {
+        assertThat(from(RDG.template("{alnum}")).sample(10000).unique()).hasSize(62);
+    }
+
+    @Test
+    public void bracesCanBeEscaped() {
+        assertThat(RDG.template("{{{letter}}}").next()).matches("\\{[A-Za-z]}");
+    }
+
+    @Test
+    public void templatesAppendAfterExistingContent() {
+        final StringBuilder builder = new StringBuilder("id=");
+        RDG.template("{digit:3}").appendTo(builder);
+
+        assertThat(builder.toString()).matches("id=[0-9]{3}");
+    }
+
+    @Test
+    public void emptyTemplate() {
+        assertThat(RDG.template("").next()).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownExpressionsAreRejected() {
+        RDG.template("{emoji}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unterminatedExpressionsAreRejected() {
+        RDG.template("{digit:3");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unmatchedClosingBracesAreRejected() {
+        RDG.template("digit}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCountsAreRejected() {
+        RDG.template("{digit:4-2}");
+    }
+
+    @Test
+    public void oneOfCharactersCanIncludeEscapedBracesAndColons() {
+        assertThat(from(RDG.template("{oneOf:a}}::b}")).sample(1000).unique())
+                .containsOnly("a", "}", ":", "b");
+        assertThat(from(RDG.template("{oneOf:}}:2}")).sample(100).unique())
+                .containsOnly("}}");
+    }
+
+    @Test
+    public void oneOfFollowedByALiteralBraceNeedsACount() {
+        assertThat(from(RDG.template("{oneOf:ab:1}}}")).sample(100).unique())
+                .containsOnly("a}", "b}");
+        assertThat(from(RDG.template("{oneOf:ab}}}")).sample(1000).unique())
+                .containsOnly("a", "b", "}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oneOfRequiresCharacters() {
+        RDG.template("{oneOf:}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void templateCannotBeNull() {
+        RDG.template(null);
+    }
+}
@@ -0,0 +1,82 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.characters.CharacterClass;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class UniqueStringGeneratorTest extends BaseTest {
+
+    private static final CharacterClass DIGITS = CharacterClass.of("0123456789");
+
+    @Test
+    public void generatesEveryStringOfTheSpaceExactlyOnce() {
+        final List<String> strings = RDG.uniqueString(3, DIGITS).stream(1000).collect(toList());
+
+        assertThat(new HashSet<>(strings)).hasSize(1000);
+        assertThat(strings).allMatch(s -> s.matches("[0-9]{3}"));
+    }
+
+    @Test
+    public void stringsAreNotGeneratedInCounterOrder() {
+        final List<String> strings = RDG.uniqueString(3, DIGITS).stream(10).collect(toList());
+
+        assertThat(strings).isNotEqualTo(
+                Arrays.asList("000", "100", "200", "300", "400", "500", "600", "700", "800", "900"));
+    }
+
+    @Test
+    public void coversEveryLengthInTheRange() {
+        final List<String> strings = RDG.uniqueString(closed(0, 2), CharacterClass.of("ab")).stream(7).collect(toList());
+
+        assertThat(strings).containsExactlyInAnyOrder("", "a", "b", "aa", "ab", "ba", "bb");
+    }
+
+    @Test
+    public void stringsAreUniqueWhenTheSpaceIsLargerThanCanBeEnumerated() {
+        final TextGenerator generator = RDG.uniqueString(40, CharacterClass.of("abcdefghijklmnopqrstuvwxyz"));
+
+        final Set<String> strings = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            final String string = generator.next();
+            assertThat(string).hasSize(40);
+            assertThat(strings.add(string)).isTrue();
+        }
+    }
+
+    @Test
+    public void uniquenessIsGuaranteedRatherThanProbable() {
+        final TextGenerator generator = RDG.uniqueString(4, CharacterClass.of("xy"));
+
+        final Set<String> strings = new HashSet<>();
+        for (int i = 0; i < 16; i++) {
+            assertThat(strings.add(generator.next())).isTrue();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failsOnceTheSpaceIsExhausted() {
+        final TextGenerator generator = RDG.uniqueString(2, CharacterClass.of("xy"));
+        for (int i = 0; i < 5; i++) {
+            generator.next();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void characterClassCannotBeEmpty() {
+        RDG.uniqueString(3, CharacterClass.of(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthCannotBeNegative() {
+        RDG.uniqueString(closed(-1, 3), DIGITS);
+    }
+}
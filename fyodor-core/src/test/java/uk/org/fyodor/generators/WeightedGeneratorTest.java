@@ -0,0 +1,53 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.generators.Weighted.weighted;
+
+public final class WeightedGeneratorTest extends BaseTest {
+
+    @Test
+    public void oneOfGeneratesValuesFromEveryGenerator() {
+        assertThat(from(RDG.oneOf(RDG.value("a"), RDG.value("b"), RDG.value("c"))).sample(1000).unique())
+                .containsOnly("a", "b", "c");
+    }
+
+    @Test
+    public void oneOfWithASingleGenerator() {
+        assertThat(from(RDG.oneOf(RDG.value("a"))).sample(100).unique()).containsOnly("a");
+    }
+
+    @Test
+    public void frequencyPicksGeneratorsInProportionToTheirWeights() {
+        final Map<String, Long> counts = RDG.frequency(weighted(1, RDG.value("rare")), weighted(9, RDG.value("common")))
+                .stream(100000)
+                .collect(groupingBy(Function.identity(), counting()));
+
+        assertThat(counts.get("rare") / 100000.0).isCloseTo(0.1, within(0.01));
+        assertThat(counts.get("common") / 100000.0).isCloseTo(0.9, within(0.01));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oneOfRequiresAtLeastOneGenerator() {
+        RDG.oneOf();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void weightMustBePositive() {
+        weighted(0, RDG.value("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void weightedGeneratorCannotBeNull() {
+        weighted(1, null);
+    }
+}
@@ -0,0 +1,65 @@
+package uk.org.fyodor.generators.characters;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.range.Range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CharacterClassTest extends BaseTest {
+
+    @Test
+    public void compilesFilterOverRanges() {
+        final CharacterClass characterClass = CharacterClass.of(c -> c != 'b', Range.closed((int) 'a', (int) 'd'), Range.closed((int) 'x', (int) 'y'));
+        assertThat(characterClass.toCharArray()).containsExactly('a', 'c', 'd', 'x', 'y');
+        assertThat(characterClass.size()).isEqualTo(5);
+        assertThat(characterClass.contains('c')).isTrue();
+        assertThat(characterClass.contains('b')).isFalse();
+        assertThat(characterClass.contains('\uffff')).isFalse();
+    }
+
+    @Test
+    public void compiledClassesAreCachedByFilterAndRanges() {
+        assertThat(CharacterClass.of(CharacterSetFilter.DomainName.getFilter(), CharacterSetRange.defaultLatinBasic))
+                .isSameAs(CharacterClass.of(CharacterSetFilter.DomainName.getFilter(), CharacterSetRange.defaultLatinBasic));
+        assertThat(CharacterClass.of(new RegExCharacterFilter("[a-c]"), CharacterSetRange.defaultLatinBasic))
+                .isSameAs(CharacterClass.of(new RegExCharacterFilter("[a-c]"), CharacterSetRange.defaultLatinBasic));
+    }
+
+    @Test
+    public void compiledRegexClassesMatchTheRegex() {
+        assertThat(CharacterClass.of(CharacterSetFilter.DomainName.getFilter(), CharacterSetRange.defaultLatinBasic))
+                .isEqualTo(CharacterClass.of("-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"));
+    }
+
+    @Test
+    public void union() {
+        assertThat(CharacterClass.of("abc").union(CharacterClass.of("c\u4e2d")).toCharArray())
+                .containsExactly('a', 'b', 'c', '\u4e2d');
+    }
+
+    @Test
+    public void intersection() {
+        assertThat(CharacterClass.of("abc\u4e2d").intersection(CharacterClass.of("bcd")).toCharArray())
+                .containsExactly('b', 'c');
+    }
+
+    @Test
+    public void difference() {
+        assertThat(CharacterClass.of("abc\u4e2d").difference(CharacterClass.of("b\u4e2d")))
+                .isEqualTo(CharacterClass.of("ac"));
+    }
+
+    @Test
+    public void isAFilter() {
+        final CharacterSetGenerator generator = new CharacterSetGenerator(CharacterClass.of("xyz"), CharacterSetRange.defaultLatinBasic);
+        assertThat(generator.getCharset()).containsExactly('x', 'y', 'z');
+    }
+
+    @Test
+    public void cannotChangeCharacters() {
+        final CharacterClass characterClass = CharacterClass.of("ab");
+        characterClass.toCharArray()[0] = 'z';
+        assertThat(characterClass.toCharArray()).containsExactly('a', 'b');
+    }
+}
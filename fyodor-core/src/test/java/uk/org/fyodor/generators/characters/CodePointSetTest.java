@@ -0,0 +1,78 @@
+package uk.org.fyodor.generators.characters;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.lang.Character.UnicodeBlock;
+import java.lang.Character.UnicodeScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CodePointSetTest extends BaseTest {
+
+    @Test
+    public void categoryContainsExactlyTheCodePointsOfThatCategory() {
+        final CodePointSet uppercase = CodePointSet.category(Character.UPPERCASE_LETTER);
+        int expectedSize = 0;
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            final boolean isUppercase = Character.getType(codePoint) == Character.UPPERCASE_LETTER;
+            assertThat(uppercase.contains(codePoint)).isEqualTo(isUppercase);
+            if (isUppercase) {
+                expectedSize++;
+            }
+        }
+        assertThat(uppercase.size()).isEqualTo(expectedSize);
+    }
+
+    @Test
+    public void codePointAtWalksTheSetInOrder() {
+        final CodePointSet set = CodePointSet.range('a', 'c').union(CodePointSet.range(0x1F600, 0x1F601));
+        assertThat(set.size()).isEqualTo(5);
+        assertThat(set.codePointAt(0)).isEqualTo('a');
+        assertThat(set.codePointAt(2)).isEqualTo('c');
+        assertThat(set.codePointAt(3)).isEqualTo(0x1F600);
+        assertThat(set.codePointAt(4)).isEqualTo(0x1F601);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void codePointAtRejectsIndexesOutsideTheSet() {
+        CodePointSet.range('a', 'c').codePointAt(3);
+    }
+
+    @Test
+    public void scriptsAndBlocks() {
+        final CodePointSet greek = CodePointSet.script(UnicodeScript.GREEK);
+        assertThat(greek.contains('\u03b1')).isTrue();
+        assertThat(greek.contains('a')).isFalse();
+
+        final CodePointSet emoticons = CodePointSet.block(UnicodeBlock.EMOTICONS);
+        assertThat(emoticons).isEqualTo(CodePointSet.range(0x1F600, 0x1F64F));
+        assertThat(emoticons.isBmp()).isFalse();
+    }
+
+    @Test
+    public void setOperations() {
+        final CodePointSet abcdef = CodePointSet.range('a', 'f');
+        final CodePointSet cdxyz = CodePointSet.range('c', 'd').union(CodePointSet.range('x', 'z'));
+
+        assertThat(abcdef.union(cdxyz)).isEqualTo(CodePointSet.range('a', 'f').union(CodePointSet.range('x', 'z')));
+        assertThat(abcdef.intersection(cdxyz)).isEqualTo(CodePointSet.range('c', 'd'));
+        assertThat(abcdef.difference(cdxyz)).isEqualTo(CodePointSet.range('a', 'b').union(CodePointSet.range('e', 'f')));
+        assertThat(abcdef.difference(abcdef).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void neverContainsSurrogates() {
+        final CodePointSet set = CodePointSet.range(0xD000, 0xE000);
+        assertThat(set.contains(0xD800)).isFalse();
+        assertThat(set.contains(0xDFFF)).isFalse();
+        assertThat(set.size()).isEqualTo(0x1001 - 0x800);
+        assertThat(CodePointSet.assigned().contains(0xDABC)).isFalse();
+        assertThat(CodePointSet.category(Character.SURROGATE).isEmpty()).isTrue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void categoryMustBeAGeneralCategory() {
+        CodePointSet.category(17);
+    }
+}
@@ -53,12 +53,32 @@ public final class ArrayGeneratorTest extends BaseTest {
         }
     }
 
+    @Test
+    public void generatesArrayOfSupertypeFromBulkGenerator() {
+        final Number[] numbers = RDG.array(Number.class, RDG.integer(closed(1, 3)), MAX_SIZE).next();
+
+        assertThat(numbers)
+                .hasSize(MAX_SIZE)
+                .containsOnly(1, 2, 3);
+    }
+
     @Test
     public void generatesArrayUpToMaximumSize() {
         assertThat(RDG.array(Integer.class, generatingRandomIntegers(), MAX_SIZE + 1).next())
                 .hasSize(MAX_SIZE);
     }
 
+    @Test
+    public void maximumSizeCanBeRaised() {
+        assertThat(RDG.array(Integer.class, generatingRandomIntegers(), fixed(MAX_SIZE + 1), MAX_SIZE + 1).next())
+                .hasSize(MAX_SIZE + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumSizeCannotBeNegative() {
+        RDG.array(Integer.class, generatingRandomIntegers(), fixed(1), -1);
+    }
+
     @Test
     public void generatesEmptyArrayForNegativeSize() {
         assertThat(RDG.array(Integer.class, generatingRandomIntegers(), -1).next())
@@ -0,0 +1,87 @@
+package uk.org.fyodor.generators.collections;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class LazyListTest extends BaseTest {
+
+    @Test
+    public void sameIndexAlwaysHasTheSameElement() {
+        final LazyList<String> list = RDG.lazyList(RDG.string(10), 1000);
+
+        final List<String> firstRead = new ArrayList<>(list);
+        final List<String> secondRead = new ArrayList<>(list);
+
+        assertThat(firstRead).hasSize(1000).isEqualTo(secondRead);
+        assertThat(list.get(500)).isEqualTo(firstRead.get(500));
+    }
+
+    @Test
+    public void elementsDoNotDependOnTheOrderTheyAreRead() {
+        final LazyList<Integer> list = RDG.lazyList(RDG.integer(), 100);
+
+        final Integer last = list.get(99);
+        list.get(3);
+        RDG.integer().next();
+
+        assertThat(list.get(99)).isEqualTo(last);
+    }
+
+    @Test
+    public void listsCanBeLargerThanAnArray() {
+        final long size = 10_000_000_000L;
+        final LazyList<Long> list = RDG.lazyList(RDG.longVal(closed(0L, 9L)), size);
+
+        assertThat(list.longSize()).isEqualTo(size);
+        assertThat(list.size()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(list.get(size - 1)).isBetween(0L, 9L);
+        assertThat(list.get(size - 1)).isEqualTo(list.get(size - 1));
+    }
+
+    @Test
+    public void streamsAreInIndexOrder() {
+        final LazyList<Integer> list = RDG.lazyList(RDG.integer(), 50);
+
+        assertThat(list.stream().collect(toList())).isEqualTo(new ArrayList<>(list));
+        assertThat(list.parallelStream().collect(toList())).isEqualTo(new ArrayList<>(list));
+    }
+
+    @Test
+    public void differentListsHaveDifferentElements() {
+        assertThat(new ArrayList<>(RDG.lazyList(RDG.integer(), 20)))
+                .isNotEqualTo(new ArrayList<>(RDG.lazyList(RDG.integer(), 20)));
+    }
+
+    @Test
+    public void emptyList() {
+        assertThat(RDG.lazyList(RDG.integer(), 0)).isEmpty();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexMustBeWithinTheList() {
+        RDG.lazyList(RDG.integer(), 10).get(10L);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void listCannotBeModified() {
+        RDG.lazyList(RDG.integer(), 10).add(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeCannotBeNegative() {
+        RDG.lazyList(RDG.integer(), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void doesNotAllowNullGenerator() {
+        RDG.lazyList(null, 1);
+    }
+}
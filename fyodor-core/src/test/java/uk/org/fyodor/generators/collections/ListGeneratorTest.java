@@ -7,11 +7,17 @@ import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.generators.RDG;
 import uk.org.fyodor.range.Range;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
+import static uk.org.fyodor.generators.collections.CollectionOptions.Mutability.UNMODIFIABLE;
+import static uk.org.fyodor.generators.collections.CollectionOptions.Mutability.IMMUTABLE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static uk.org.fyodor.Sampler.from;
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingFrom;
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingRandomIntegers;
@@ -29,6 +35,13 @@ public final class ListGeneratorTest extends BaseTest {
         assertThat(generator.next()).containsExactly(1, 2, 3, 4, 5);
     }
 
+    @Test
+    public void generatesListOfValuesFromBulkGenerator() {
+        assertThat(RDG.list(RDG.longVal(closed(-1L, 1L)), MAX_SIZE).next())
+                .hasSize(MAX_SIZE)
+                .containsOnly(-1L, 0L, 1L);
+    }
+
     @Test
     public void generatesEmptyListForSizeOfZero() {
         final Generator<List<Integer>> generator = RDG.list(generatingRandomIntegers(), 0);
@@ -140,4 +153,52 @@ public final class ListGeneratorTest extends BaseTest {
 
         assertThat(setOfListSizes).containsExactly(DEFAULT_SIZE);
     }
+
+    @Test
+    public void maximumSizeCanBeRaised() {
+        final Generator<List<Integer>> generator = RDG.list(generatingRandomIntegers(), fixed(100000), collectionOptions().maximumSize(1000000));
+
+        assertThat(generator.next()).hasSize(100000);
+    }
+
+    @Test
+    public void maximumSizeCanBeLowered() {
+        assertThat(RDG.list(generatingRandomIntegers(), fixed(10), collectionOptions().maximumSize(3)).next()).hasSize(3);
+    }
+
+    @Test
+    public void mutableListsAreArrayLists() {
+        final List<Integer> list = RDG.list(generatingFrom(1, 2, 3), fixed(3), collectionOptions()).next();
+
+        assertThat(list).isInstanceOf(ArrayList.class).containsExactly(1, 2, 3);
+        list.add(4);
+        assertThat(list).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    public void unmodifiableListsCannotBeModified() {
+        final List<Integer> list = RDG.list(generatingFrom(1, 2, 3), fixed(3), collectionOptions().mutability(UNMODIFIABLE)).next();
+
+        assertThat(list).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> list.add(4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void immutableListsCannotBeModified() {
+        final List<Integer> list = RDG.list(generatingFrom(1, 2, 3), fixed(3), collectionOptions().mutability(IMMUTABLE)).next();
+
+        assertThat(list).containsExactly(1, 2, 3).isInstanceOf(RandomAccess.class);
+        assertThatThrownBy(() -> list.set(0, 4)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.add(4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void doesNotAllowNullCollectionOptions() {
+        RDG.list(generatingFrom(1), fixed(1), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumSizeCannotBeNegative() {
+        collectionOptions().maximumSize(-1);
+    }
 }
@@ -10,6 +10,9 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
+import static uk.org.fyodor.generators.collections.CollectionOptions.Mutability.IMMUTABLE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static uk.org.fyodor.Sampler.from;
 import static uk.org.fyodor.generators.collections.GeneratorUtils.*;
 import static uk.org.fyodor.range.Range.closed;
@@ -263,4 +266,25 @@ public final class MapGeneratorTest extends BaseTest {
 
     private static final class ConcreteType implements Type {
     }
+
+    @Test
+    public void maximumSizeCanBeRaised() {
+        assertThat(RDG.map(generatingRandomIntegers(), generatingRandomIntegers(), fixed(5000), collectionOptions().maximumSize(5000)).next())
+                .hasSize(5000);
+    }
+
+    @Test
+    public void immutableMapsCannotBeModified() {
+        final Map<Integer, String> map = RDG.map(generatingFrom(1, 2), generatingFrom("a", "b"), fixed(2), collectionOptions().mutability(IMMUTABLE)).next();
+
+        assertThat(map).containsEntry(1, "a").containsEntry(2, "b");
+        assertThatThrownBy(() -> map.put(3, "c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void keysCanUseAllOfAnIntegerRange() {
+        final Map<Integer, String> map = RDG.map(RDG.integer(closed(1, 1000)), RDG.string(5), fixed(1000)).next();
+        assertThat(map).hasSize(1000);
+        assertThat(map.keySet()).allMatch(key -> key >= 1 && key <= 1000);
+    }
 }
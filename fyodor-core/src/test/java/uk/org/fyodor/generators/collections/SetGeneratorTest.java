@@ -2,12 +2,16 @@ package uk.org.fyodor.generators.collections;
 
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.EnumerableGenerator;
 import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.generators.RDG;
 
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.generators.collections.CollectionOptions.collectionOptions;
+import static uk.org.fyodor.generators.collections.CollectionOptions.Mutability.UNMODIFIABLE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static uk.org.fyodor.Sampler.from;
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingFrom;
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingRandomIntegers;
@@ -139,4 +143,93 @@ public final class SetGeneratorTest extends BaseTest {
 
     private static final class ConcreteType implements Type {
     }
+
+    @Test
+    public void maximumSizeCanBeRaised() {
+        assertThat(RDG.set(generatingRandomIntegers(), fixed(5000), collectionOptions().maximumSize(5000)).next()).hasSize(5000);
+    }
+
+    @Test
+    public void unmodifiableSetsCannotBeModified() {
+        final Set<Integer> set = RDG.set(generatingFrom(1, 2, 3), fixed(3), collectionOptions().mutability(UNMODIFIABLE)).next();
+
+        assertThat(set).containsOnly(1, 2, 3);
+        assertThatThrownBy(() -> set.add(4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void setsCanUseMostOfAnIntegerRange() {
+        final Generator<Set<Integer>> generator = RDG.set(RDG.integer(999), fixed(900));
+        for (final Set<Integer> set : from(generator).sample(100)) {
+            assertThat(set).hasSize(900).allMatch(i -> i >= 0 && i <= 999);
+        }
+    }
+
+    @Test
+    public void setsCanUseAllOfAnIntegerRange() {
+        assertThat(RDG.set(RDG.integer(closed(-500, 499)), fixed(1000)).next()).hasSize(1000);
+    }
+
+    @Test
+    public void setsCanUseAllOfTheDistinctValues() {
+        assertThat(RDG.set(RDG.value("a", "b", "b", "c"), fixed(3)).next()).containsOnly("a", "b", "c");
+        assertThat(RDG.set(RDG.bool(), fixed(2)).next()).containsOnly(true, false);
+    }
+
+    @Test
+    public void setsFromLargeLongRangesAreDistinct() {
+        final Set<Long> set = RDG.set(RDG.longVal(closed(0L, 1L << 40)), fixed(1000)).next();
+        assertThat(set).hasSize(1000).allMatch(l -> l >= 0 && l <= 1L << 40);
+    }
+
+    @Test
+    public void setsFromTheFullLongRangeAreDistinct() {
+        assertThat(RDG.set(RDG.longVal(), fixed(1000)).next()).hasSize(1000);
+    }
+
+    @Test
+    public void everySubsetOfASmallDomainIsGenerated() {
+        assertThat(from(RDG.set(RDG.integer(closed(1, 4)), fixed(2))).sample(1000).unique()).hasSize(6);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cannotGenerateMoreDistinctValuesThanTheDomainHas() {
+        RDG.set(RDG.integer(9), fixed(11)).next();
+    }
+
+    @Test
+    public void repeatedValuesKeepTheirFrequencyInSets() {
+        int setsOfA = 0;
+        for (int i = 0; i < 30000; i++) {
+            setsOfA += RDG.set(RDG.value("a", "a", "b"), fixed(1)).next().contains("a") ? 1 : 0;
+        }
+        assertThat(setsOfA).isBetween(19500, 20500);
+    }
+
+    @Test
+    public void enumerableGeneratorsWhichRepeatValuesAreRejected() {
+        assertThatThrownBy(() -> RDG.set(repeating(10), fixed(2)).next())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> RDG.set(repeating(1L << 40), fixed(2)).next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static EnumerableGenerator<Integer> repeating(final long domainSize) {
+        return new EnumerableGenerator<Integer>() {
+            @Override
+            public long domainSize() {
+                return domainSize;
+            }
+
+            @Override
+            public Integer valueAt(final long index) {
+                return 1;
+            }
+
+            @Override
+            public Integer next() {
+                return 1;
+            }
+        };
+    }
 }
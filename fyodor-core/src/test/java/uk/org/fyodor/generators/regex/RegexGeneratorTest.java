@@ -0,0 +1,88 @@
+package uk.org.fyodor.generators.regex;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+
+public final class RegexGeneratorTest extends BaseTest {
+
+    @Test
+    public void generatesStringsMatchingTheRegex() {
+        for (final String regex : new String[]{
+                "[A-CEGHJ-PR-TW-Z][A-CEGHJ-NPR-TW-Z]\\d{6}[A-D]",
+                "[a-z0-9._%+-]{1,10}@[a-z0-9-]{1,10}\\.(com|org|co\\.uk)",
+                "^(?:\\+44|0)7\\d{9}$",
+                "\\w+\\s\\W?\\S*\\D{2,}",
+                "[^a-z]{3}.x*y+z?",
+                "(ab|c(d|e){2,3})+?|",
+                "\\u0041\\x42\\t\\.\\[\\]\\\\",
+                "[]a-]{4}[\\d\\w-]{2}"}) {
+            final Pattern pattern = Pattern.compile(regex);
+            assertThat(from(RDG.regex(regex)).sample(1000))
+                    .as(regex)
+                    .allMatch(s -> pattern.matcher(s).matches());
+        }
+    }
+
+    @Test
+    public void everyAlternativeIsGenerated() {
+        assertThat(from(RDG.regex("cat|dog|(bird)")).sample(1000).unique()).containsOnly("cat", "dog", "bird");
+    }
+
+    @Test
+    public void alternativesAreWeightedByTheNumberOfStringsTheyMatch() {
+        final Generator<String> generator = RDG.regex("a|[b-d]");
+        final long as = generator.stream(100000).filter("a"::equals).count();
+        assertThat(as / 100000.0).isBetween(0.23, 0.27);
+    }
+
+    @Test
+    public void everyStringOfAFiniteLanguageIsEquallyLikely() {
+        final Set<String> strings = RDG.regex("[ab]{1,2}").stream(100000).collect(toSet());
+        assertThat(strings).containsOnly("a", "b", "aa", "ab", "ba", "bb");
+
+        final long singleCharacterStrings = RDG.regex("[ab]{1,2}").stream(60000).filter(s -> s.length() == 1).count();
+        assertThat(singleCharacterStrings / 60000.0).isBetween(0.31, 0.35);
+    }
+
+    @Test
+    public void unboundedRepetitionIsCapped() {
+        assertThat(from(RDG.regex("a*")).sample(1000))
+                .allMatch(s -> s.length() <= RegexParser.MAX_UNBOUNDED_REPETITIONS);
+        assertThat(from(RDG.regex("b{3,}")).sample(1000))
+                .allMatch(s -> s.length() >= 3 && s.length() <= 3 + RegexParser.MAX_UNBOUNDED_REPETITIONS);
+    }
+
+    @Test
+    public void handlesHugeLanguages() {
+        assertThat(RDG.regex("[a-z]{1000}").next()).hasSize(1000).matches("[a-z]+");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRegex() {
+        RDG.regex("[a-");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lookaroundIsNotSupported() {
+        RDG.regex("a(?=b)");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void backReferencesAreNotSupported() {
+        RDG.regex("(a)\\1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void regexCannotBeNull() {
+        RDG.regex(null);
+    }
+}
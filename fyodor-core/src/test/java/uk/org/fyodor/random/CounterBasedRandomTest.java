@@ -0,0 +1,87 @@
+package uk.org.fyodor.random;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class CounterBasedRandomTest extends BaseTest {
+
+    private final long seed = new Random().nextLong();
+
+    @Test
+    public void sameSeedProducesTheSameSequence() {
+        final CounterBasedRandom first = new CounterBasedRandom(seed);
+        final CounterBasedRandom second = new CounterBasedRandom(seed);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+        }
+    }
+
+    @Test
+    public void longAtReturnsTheValueAtThatPositionOfTheSequence() {
+        final CounterBasedRandom sequential = new CounterBasedRandom(seed);
+        final CounterBasedRandom randomAccess = new CounterBasedRandom(seed);
+        for (long position = 0; position < 1000; position++) {
+            assertThat(randomAccess.longAt(position)).isEqualTo(sequential.nextLong());
+        }
+        assertThat(randomAccess.position()).isZero();
+    }
+
+    @Test
+    public void jumpingAheadSkipsValues() {
+        final CounterBasedRandom sequential = new CounterBasedRandom(seed);
+        for (int i = 0; i < 40000; i++) {
+            sequential.nextLong();
+        }
+
+        final CounterBasedRandom jumped = new CounterBasedRandom(seed);
+        jumped.jump(40000);
+
+        assertThat(jumped.position()).isEqualTo(40000);
+        assertThat(jumped.nextLong()).isEqualTo(sequential.nextLong());
+    }
+
+    @Test
+    public void randomValuesAtAPositionReadTheSequenceFromThatPosition() {
+        final CounterBasedRandom random = new CounterBasedRandom(seed);
+        final RandomValues at = random.at(40000000L);
+
+        assertThat(at.randomLong(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(random.longAt(40000000L));
+        assertThat(at.randomLong(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(random.longAt(40000001L));
+        assertThat(random.position()).isZero();
+    }
+
+    @Test
+    public void reseedingRestartsTheSequence() {
+        final CounterBasedRandom random = new CounterBasedRandom(seed);
+        final long first = random.nextLong();
+        random.jump(100);
+
+        random.setSeed(seed);
+
+        assertThat(random.position()).isZero();
+        assertThat(random.nextLong()).isEqualTo(first);
+    }
+
+    @Test
+    public void substreamsAreReproducibleAndDistinct() {
+        final CounterBasedRandom random = new CounterBasedRandom(seed);
+        final Set<Long> firstValues = new HashSet<>();
+        for (long index = 0; index < 1000; index++) {
+            final long value = random.substream(index).nextLong();
+            assertThat(new CounterBasedRandom(seed).substream(index).nextLong()).isEqualTo(value);
+            firstValues.add(value);
+        }
+        assertThat(firstValues).hasSize(1000);
+    }
+
+    @Test
+    public void differentSeedsProduceDifferentSequences() {
+        assertThat(new CounterBasedRandom(1).nextLong()).isNotEqualTo(new CounterBasedRandom(2).nextLong());
+    }
+}
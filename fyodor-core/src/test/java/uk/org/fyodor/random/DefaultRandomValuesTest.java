@@ -5,13 +5,22 @@ import uk.org.fyodor.BaseTest;
 import uk.org.fyodor.generators.Generator;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.from;
 
 public final class DefaultRandomValuesTest extends BaseTest {
 
+    private static final double CHI_SQUARED_CRITICAL_VALUE_FOR_2_DEGREES_OF_FREEDOM = 13.816;
+    private static final double CHI_SQUARED_CRITICAL_VALUE_FOR_9_DEGREES_OF_FREEDOM = 27.877;
+
     private final RandomValues randomValues = new DefaultRandomValues(new Random());
 
     @Test
@@ -179,6 +188,52 @@ public final class DefaultRandomValuesTest extends BaseTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void scaledDoublesMatchDecimalRounding() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final Random random = new Random(1234);
+        for (int i = 0; i < 10000; i++) {
+            final double next = random.nextDouble();
+            final double unscaled = next * 1000.0 + (1.0 - next) * -1000.0;
+            final double expected = BigDecimal.valueOf(unscaled).setScale(3, RoundingMode.HALF_UP).doubleValue();
+
+            assertThat(randomValues.randomDouble(-1000.0, 1000.0, 3)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void scaledDoublesTooLargeToRoundInDoubleArithmeticAreStillRounded() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final Random random = new Random(1234);
+        for (int i = 0; i < 10000; i++) {
+            final double next = random.nextDouble();
+            final double unscaled = next * 1e6 + (1.0 - next) * 0.0;
+            final double expected = BigDecimal.valueOf(unscaled).setScale(10, RoundingMode.HALF_UP).doubleValue();
+
+            assertThat(randomValues.randomDouble(0.0, 1e6, 10)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void scaledDoublesRoundTheDecimalValueRatherThanTheShiftedDouble() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random() {
+            @Override
+            public double nextDouble() {
+                return 0.145;
+            }
+        });
+
+        assertThat(randomValues.randomDouble(0.0, 1.0, 2))
+                .describedAs("0.145 * 100 is 14.499999999999998 in binary, but 0.145 rounds half up to 0.15")
+                .isEqualTo(0.15);
+    }
+
+    @Test
+    public void scaledDoublesWithLargeScalesRemainWithinBounds() {
+        assertThat(from(() -> randomValues.randomDouble(0.0, 1.0, 30)).sample(1000))
+                .allMatch(value -> value >= 0.0 && value <= 1.0);
+    }
+
     @Test
     public void randomDoubleIsInclusiveOfUpperBound() {
         final double upperBound = 10.0;
@@ -211,6 +266,213 @@ public final class DefaultRandomValuesTest extends BaseTest {
         randomValues.randomDouble(1.0, 0.0, anyScale);
     }
 
+    @Test
+    public void fillsIntegersWithinInclusiveBounds() {
+        final int[] integers = new int[1000];
+
+        randomValues.fillIntegers(integers, -3, 3);
+        assertThat(integers).containsOnly(-3, -2, -1, 0, 1, 2, 3);
+
+        randomValues.fillIntegers(integers, 0, 7);
+        assertThat(integers).containsOnly(0, 1, 2, 3, 4, 5, 6, 7);
+
+        randomValues.fillIntegers(integers, Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+        assertThat(integers).containsOnly(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+
+        randomValues.fillIntegers(integers, Integer.MIN_VALUE, Integer.MIN_VALUE + 1);
+        assertThat(integers).containsOnly(Integer.MIN_VALUE, Integer.MIN_VALUE + 1);
+    }
+
+    @Test
+    public void fillsIntegersAcrossWideRanges() {
+        final int[] integers = new int[1000];
+
+        randomValues.fillIntegers(integers, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertThat(IntStream.of(integers).distinct().count()).isGreaterThan(900);
+
+        randomValues.fillIntegers(integers, -10, Integer.MAX_VALUE);
+        assertThat(IntStream.of(integers).min().getAsInt()).isGreaterThanOrEqualTo(-10);
+    }
+
+    @Test
+    public void fillsFixedIntegers() {
+        final int[] integers = new int[100];
+        randomValues.fillIntegers(integers, 42, 42);
+        assertThat(integers).containsOnly(42);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsAnExceptionWhenUpperBoundIsLessThanTheLowerBoundForFillIntegers() {
+        randomValues.fillIntegers(new int[1], 1, 0);
+    }
+
+    @Test
+    public void fillsLongsWithinInclusiveBounds() {
+        final long[] longs = new long[1000];
+
+        randomValues.fillLongs(longs, -3, 3);
+        assertThat(longs).containsOnly(-3, -2, -1, 0, 1, 2, 3);
+
+        randomValues.fillLongs(longs, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        assertThat(longs).containsOnly(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+
+        randomValues.fillLongs(longs, Long.MIN_VALUE, Long.MIN_VALUE + 1);
+        assertThat(longs).containsOnly(Long.MIN_VALUE, Long.MIN_VALUE + 1);
+
+        randomValues.fillLongs(longs, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(LongStream.of(longs).distinct().count()).isGreaterThan(900);
+
+        randomValues.fillLongs(longs, -10, Long.MAX_VALUE);
+        assertThat(LongStream.of(longs).min().getAsLong()).isGreaterThanOrEqualTo(-10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsAnExceptionWhenUpperBoundIsLessThanTheLowerBoundForFillLongs() {
+        randomValues.fillLongs(new long[1], 1, 0);
+    }
+
+    @Test
+    public void fillsDoublesWithinInclusiveBounds() {
+        final double[] doubles = new double[1000];
+        randomValues.fillDoubles(doubles, -1.5, 2.5);
+        assertThat(DoubleStream.of(doubles).min().getAsDouble()).isGreaterThanOrEqualTo(-1.5);
+        assertThat(DoubleStream.of(doubles).max().getAsDouble()).isLessThanOrEqualTo(2.5);
+
+        randomValues.fillDoubles(doubles, 3.0, 3.0);
+        assertThat(doubles).containsOnly(3.0);
+    }
+
+    @Test
+    public void fillsBooleansWithBothValues() {
+        final boolean[] booleans = new boolean[1000];
+        randomValues.fillBooleans(booleans);
+        assertThat(booleans).contains(true, false);
+    }
+
+    @Test
+    public void integersAreUniformlyDistributedAcrossSmallSpans() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final long[] observed = new long[10];
+        for (int i = 0; i < 100000; i++) {
+            observed[randomValues.randomInteger(0, 9)]++;
+        }
+
+        assertThat(chiSquared(observed)).isLessThan(CHI_SQUARED_CRITICAL_VALUE_FOR_9_DEGREES_OF_FREEDOM);
+    }
+
+    @Test
+    public void integersAreUniformlyDistributedAcrossSpansWiderThanMaxInteger() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final int third = 1 << 30;
+        final long[] observed = new long[3];
+        for (int i = 0; i < 30000; i++) {
+            final long offset = (long) randomValues.randomInteger(Integer.MIN_VALUE, Integer.MIN_VALUE + 3 * third - 1) - Integer.MIN_VALUE;
+            observed[(int) (offset / third)]++;
+        }
+
+        assertThat(chiSquared(observed)).isLessThan(CHI_SQUARED_CRITICAL_VALUE_FOR_2_DEGREES_OF_FREEDOM);
+    }
+
+    @Test
+    public void bulkIntegersAreUniformlyDistributed() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final int[] integers = new int[100000];
+        randomValues.fillIntegers(integers, 10, 19);
+
+        final long[] observed = new long[10];
+        for (final int integer : integers) {
+            observed[integer - 10]++;
+        }
+
+        assertThat(chiSquared(observed)).isLessThan(CHI_SQUARED_CRITICAL_VALUE_FOR_9_DEGREES_OF_FREEDOM);
+    }
+
+    @Test
+    public void longsAreUniformlyDistributedAcrossSpansWiderThanMaxLong() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final long third = 1L << 62;
+        final long[] observed = new long[3];
+        for (int i = 0; i < 30000; i++) {
+            final long offset = randomValues.randomLong(Long.MIN_VALUE, Long.MIN_VALUE + 3 * third - 1) - Long.MIN_VALUE;
+            observed[(int) Long.divideUnsigned(offset, third)]++;
+        }
+
+        assertThat(chiSquared(observed)).isLessThan(CHI_SQUARED_CRITICAL_VALUE_FOR_2_DEGREES_OF_FREEDOM);
+    }
+
+    @Test
+    public void longsAreUniformlyDistributedAcrossSpansThatAreNotPowersOfTwo() {
+        final RandomValues randomValues = new DefaultRandomValues(new Random(1234));
+        final long[] longs = new long[100000];
+        randomValues.fillLongs(longs, -5, 4);
+
+        final long[] observed = new long[10];
+        for (final long value : longs) {
+            observed[(int) value + 5]++;
+        }
+
+        assertThat(chiSquared(observed)).isLessThan(CHI_SQUARED_CRITICAL_VALUE_FOR_9_DEGREES_OF_FREEDOM);
+    }
+
+    @Test
+    public void singleAndBulkIntegersDrawTheSameValuesFromTheSameSeed() {
+        final int[] bulk = new int[1000];
+        new DefaultRandomValues(new Random(99)).fillIntegers(bulk, -1000, 1000000);
+
+        final RandomValues single = new DefaultRandomValues(new Random(99));
+        for (final int expected : bulk) {
+            assertThat(single.randomInteger(-1000, 1000000)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void singleAndBulkLongsDrawTheSameValuesFromTheSameSeed() {
+        final long[] bulk = new long[1000];
+        new DefaultRandomValues(new Random(99)).fillLongs(bulk, -1000, Long.MAX_VALUE / 3);
+
+        final RandomValues single = new DefaultRandomValues(new Random(99));
+        for (final long expected : bulk) {
+            assertThat(single.randomLong(-1000, Long.MAX_VALUE / 3)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void arraysAndBuffersOfEitherByteOrderReceiveTheSameBytes() {
+        final byte[] array = new byte[29];
+        new DefaultRandomValues(new Random(77)).fillBytes(array, 0, array.length);
+
+        final ByteBuffer bigEndian = ByteBuffer.allocate(29);
+        new DefaultRandomValues(new Random(77)).fillBytes(bigEndian, 29);
+
+        final ByteBuffer littleEndian = ByteBuffer.allocateDirect(29).order(ByteOrder.LITTLE_ENDIAN);
+        new DefaultRandomValues(new Random(77)).fillBytes(littleEndian, 29);
+
+        bigEndian.flip();
+        littleEndian.flip();
+        assertThat(bigEndian).isEqualTo(ByteBuffer.wrap(array));
+        assertThat(littleEndian).isEqualTo(ByteBuffer.wrap(array));
+    }
+
+    @Test
+    public void fillsOnlyTheRegionOfTheArray() {
+        final byte[] bytes = new byte[20];
+        randomValues.fillBytes(bytes, 5, 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bytes[i]).isZero();
+            assertThat(bytes[15 + i]).isZero();
+        }
+    }
+
+    private static double chiSquared(final long[] observed) {
+        final double expected = (double) LongStream.of(observed).sum() / observed.length;
+        double chiSquared = 0;
+        for (final long count : observed) {
+            chiSquared += (count - expected) * (count - expected) / expected;
+        }
+        return chiSquared;
+    }
+
     private static int scale(final double actualValue) {
         return BigDecimal.valueOf(actualValue).scale();
     }
@@ -0,0 +1,60 @@
+package uk.org.fyodor.random;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
+
+public final class FeistelPermutationTest extends BaseTest {
+
+    @Test
+    public void permutesEveryIndexOntoADistinctIndex() {
+        for (final long size : new long[]{1, 2, 3, 17, 1000, 4096}) {
+            final FeistelPermutation permutation = new FeistelPermutation(sourceOfRandomness(), size);
+
+            final Set<Long> permuted = new HashSet<>();
+            for (long i = 0; i < size; i++) {
+                final long index = permutation.permute(i);
+                assertThat(index).isBetween(0L, size - 1);
+                permuted.add(index);
+            }
+            assertThat(permuted).hasSize((int) size);
+        }
+    }
+
+    @Test
+    public void indexesOfVeryLargeDomainsStayInTheDomain() {
+        final FeistelPermutation permutation = new FeistelPermutation(sourceOfRandomness(), Long.MAX_VALUE);
+        for (long i = 0; i < 1000; i++) {
+            assertThat(permutation.permute(i)).isNotNegative();
+        }
+    }
+
+    @Test
+    public void differentKeysGiveDifferentPermutations() {
+        final FeistelPermutation first = new FeistelPermutation(sourceOfRandomness(), 1000000);
+        final FeistelPermutation second = new FeistelPermutation(sourceOfRandomness(), 1000000);
+
+        int same = 0;
+        for (long i = 0; i < 1000; i++) {
+            if (first.permute(i) == second.permute(i)) {
+                same++;
+            }
+        }
+        assertThat(same).isLessThan(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexMustBeWithinTheDomain() {
+        new FeistelPermutation(sourceOfRandomness(), 10).permute(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeMustBePositive() {
+        new FeistelPermutation(sourceOfRandomness(), 0);
+    }
+}
@@ -0,0 +1,182 @@
+package uk.org.fyodor.random;
+
+import org.junit.After;
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.Generator;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+
+public final class RandomBackendsTest extends BaseTest {
+
+    private final RandomBackend initialBackend = RandomSourceProvider.seed().backend();
+
+    @After
+    public void restoreInitialBackend() {
+        RandomSourceProvider.seed().use(initialBackend);
+    }
+
+    @Test
+    public void everyBackendProducesTheSameSequenceForTheSameSeed() {
+        final long seed = new Random().nextLong();
+        for (final RandomBackends backend : RandomBackends.values()) {
+            assertThat(longsFrom(backend, seed))
+                    .describedAs(backend.name())
+                    .isEqualTo(longsFrom(backend, seed));
+        }
+    }
+
+    @Test
+    public void everyBackendProducesDifferentSequencesForDifferentSeeds() {
+        for (final RandomBackends backend : RandomBackends.values()) {
+            assertThat(longsFrom(backend, 1L))
+                    .describedAs(backend.name())
+                    .isNotEqualTo(longsFrom(backend, 2L));
+        }
+    }
+
+    @Test
+    public void reseedingABackendRestartsItsSequence() {
+        for (final RandomBackends backend : RandomBackends.values()) {
+            final Random random = backend.newRandom();
+            random.setSeed(42);
+            final long first = random.nextLong();
+            random.nextLong();
+            random.setSeed(42);
+
+            assertThat(random.nextLong()).describedAs(backend.name()).isEqualTo(first);
+        }
+    }
+
+    @Test
+    public void everyBackendGeneratesIntegersWithinBounds() {
+        for (final RandomBackends backend : RandomBackends.values()) {
+            final Random random = backend.newRandom();
+            final RandomValues randomValues = new DefaultRandomValues(random);
+
+            assertThat(from(() -> randomValues.randomInteger(-5, 5)).sample(1000).unique())
+                    .describedAs(backend.name())
+                    .containsOnly(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5);
+        }
+    }
+
+    @Test
+    public void everyBackendGeneratesDoublesBetweenZeroAndOne() {
+        for (final RandomBackends backend : RandomBackends.values()) {
+            final Random random = backend.newRandom();
+            for (int i = 0; i < 10000; i++) {
+                assertThat(random.nextDouble()).describedAs(backend.name()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+            }
+        }
+    }
+
+    @Test
+    public void everyBackendFillsPartialWordsOfBytes() {
+        for (final RandomBackends backend : RandomBackends.values()) {
+            final Random random = backend.newRandom();
+            random.setSeed(7);
+            final byte[] bytes = new byte[13];
+            random.nextBytes(bytes);
+
+            random.setSeed(7);
+            final byte[] sameBytes = new byte[13];
+            random.nextBytes(sameBytes);
+
+            assertThat(bytes).describedAs(backend.name()).isEqualTo(sameBytes);
+        }
+    }
+
+    @Test
+    public void splitMix64MatchesTheReferenceOutputs() {
+        /* splitmix64.c by Sebastiano Vigna, starting from a state of 1234567 */
+        long state = 1234567L;
+        final long[] longs = new long[5];
+        for (int i = 0; i < longs.length; i++) {
+            state += SplitMix64.GOLDEN_GAMMA;
+            longs[i] = SplitMix64.mix64(state);
+        }
+
+        assertThat(longs).containsExactly(
+                6457827717110365317L, 3203168211198807973L, -8629252141511181193L, 4593380528125082431L, -2037821214251327795L);
+    }
+
+    @Test
+    public void xoroshiro128PlusPlusMatchesTheReferenceOutputs() {
+        /* jdk.random.Xoroshiro128PlusPlus from JDK 17, started from the state that seed 42 expands to */
+        final Random random = new Xoroshiro128PlusPlusRandom();
+        random.setSeed(42L);
+
+        assertThat(longsFrom(random)).containsExactly(
+                -1690267358668702685L, 6098722386207918385L, -905081495677017275L, 3771828211556203317L, 6324094075403496319L);
+    }
+
+    @Test
+    public void l64X128MixRandomMatchesTheReferenceOutputs() {
+        /* jdk.random.L64X128MixRandom from JDK 17, started from the state that seed 42 expands to */
+        final Random random = new L64X128MixRandom();
+        random.setSeed(42L);
+
+        assertThat(longsFrom(random)).containsExactly(
+                8815551698610864235L, 9070471391076805196L, 2775185992286847174L, -7638634821206332511L, -81967920381516829L);
+    }
+
+    @Test
+    public void seederUsesTheSelectedBackendWithTheCurrentSeed() {
+        final long seed = new Random().nextLong();
+        RandomSourceProvider.seed().next(seed);
+        try {
+            RandomSourceProvider.seed().use(RandomBackends.Xoroshiro128PlusPlus);
+
+            assertThat(RandomSourceProvider.seed().backend()).isEqualTo(RandomBackends.Xoroshiro128PlusPlus);
+            assertThat(from(threadLocalLongs()).sample(10).asList())
+                    .isEqualTo(longsFrom(RandomBackends.Xoroshiro128PlusPlus, seed));
+        } finally {
+            RandomSourceProvider.seed().previous();
+        }
+    }
+
+    @Test
+    public void seederReseedsTheSelectedBackend() {
+        RandomSourceProvider.seed().use(RandomBackends.L64X128Mix);
+
+        RandomSourceProvider.seed().next(123);
+        try {
+            assertThat(from(threadLocalLongs()).sample(10).asList())
+                    .isEqualTo(longsFrom(RandomBackends.L64X128Mix, 123));
+        } finally {
+            RandomSourceProvider.seed().previous();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void backendCannotBeNull() {
+        RandomSourceProvider.seed().use(null);
+    }
+
+    private static List<Long> longsFrom(final RandomBackend backend, final long seed) {
+        final Random random = backend.newRandom();
+        random.setSeed(seed);
+        final List<Long> longs = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            longs.add(random.nextLong());
+        }
+        return longs;
+    }
+
+    private static Generator<Long> threadLocalLongs() {
+        return () -> RandomSourceProvider.threadLocalSourceOfRandomness().randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static long[] longsFrom(final Random random) {
+        final long[] longs = new long[5];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = random.nextLong();
+        }
+        return longs;
+    }
+}
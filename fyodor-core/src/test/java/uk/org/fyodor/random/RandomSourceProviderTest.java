@@ -10,7 +10,9 @@ import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.Sample;
 import static uk.org.fyodor.Sampler.from;
@@ -100,6 +102,75 @@ public final class RandomSourceProviderTest extends BaseTest {
         assertThat(holder.sampleBefore.asList()).isNotEqualTo(holder.sampleAfter.asList());
     }
 
+    @Test
+    public void threadLocalSourceOfRandomnessHonoursTheSeedOfTheCallingThread() throws ExecutionException, InterruptedException {
+        final RandomValues shared = RandomSourceProvider.threadLocalSourceOfRandomness();
+        final Generator<Boolean> sharedBooleans = shared::randomBoolean;
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<Boolean>>> futures = new LinkedList<>();
+            for (int i = 0; i < 8; i++) {
+                final long seed = i;
+                futures.add(executorService.submit(() -> {
+                    RandomSourceProvider.seed().next(seed);
+                    try {
+                        return from(sharedBooleans).sample(100).asList();
+                    } finally {
+                        RandomSourceProvider.seed().previous();
+                    }
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get()).isEqualTo(expectedBooleansFor(i));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void threadLocalSourceOfRandomnessFollowsChangesToTheSeed() {
+        final RandomValues shared = RandomSourceProvider.threadLocalSourceOfRandomness();
+        final long seed = new Random().nextLong();
+
+        RandomSourceProvider.seed().next(seed);
+
+        assertThat(from((Generator<Boolean>) shared::randomBoolean).sample(100).asList())
+                .isEqualTo(expectedBooleansFor(seed));
+    }
+
+    @Test
+    public void isolatedRunsAreRepeatableAndUnaffectedByNestedRuns() {
+        final RandomValues shared = RandomSourceProvider.threadLocalSourceOfRandomness();
+        final RandomBackend backend = RandomSourceProvider.seed().backend();
+
+        final List<Long> plain = RandomSourceProvider.seed().supplyIsolated(42, backend,
+                () -> asList(shared.randomLong(0, 1000000), shared.randomLong(0, 1000000)));
+        final List<Long> nested = RandomSourceProvider.seed().supplyIsolated(42, backend, () -> {
+            final long first = shared.randomLong(0, 1000000);
+            RandomSourceProvider.seed().runIsolated(7, backend, () -> shared.randomLong(0, 1000000));
+            return asList(first, shared.randomLong(0, 1000000));
+        });
+
+        assertThat(nested).isEqualTo(plain);
+    }
+
+    @Test
+    public void isolatedRunsRestoreTheSequenceOfTheCallingThread() {
+        final long seed = new Random().nextLong();
+        RandomSourceProvider.seed().next(seed);
+
+        final List<Boolean> booleans = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            RandomSourceProvider.seed().runIsolated(i, RandomSourceProvider.seed().backend(), () -> RandomSourceProvider.threadLocalSourceOfRandomness().randomBoolean());
+            booleans.add(RandomSourceProvider.threadLocalSourceOfRandomness().randomBoolean());
+        }
+
+        assertThat(booleans).isEqualTo(expectedBooleansFor(seed));
+    }
+
     private static List<Boolean> expectedBooleansFor(final long seed) {
         final Random random = new Random(seed);
         final List<Boolean> booleans = new LinkedList<>();